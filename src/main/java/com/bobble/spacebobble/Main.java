@@ -1,5 +1,6 @@
 package com.bobble.spacebobble;
 
+import com.bobble.spacebobble.gestion.ResourceManager;
 import com.bobble.spacebobble.ui.MainMenu;
 import javafx.application.Application;
 import javafx.stage.Stage;
@@ -41,6 +42,15 @@ public class Main extends Application {
         return stage;
     }
 
+    /**
+     * Décode les sprites du jeu avant l'ouverture de la fenêtre, hors du thread JavaFX.
+     */
+    @Override
+    public void init() {
+        ResourceManager.preloadBackgrounds();
+        ResourceManager.preloadSprites();
+    }
+
     /**
      * Initialise le menu principal et configure la scène principale.
      *
@@ -20,27 +20,109 @@ public class GameConstants {
      */
     public static final int DELAY_RESPAWN = 2000;
 
+    /**
+     * Délai de réapparition du joueur en ticks de simulation.
+     */
+    public static final int DELAY_RESPAWN_TICKS = DELAY_RESPAWN * 60 / 1000;
+
     /**
      * Délai entre les actions du joueur en millisecondes.
      */
     public static final int DELAY_BETWEEN = 500;
 
+    /**
+     * Délai entre les actions du joueur en ticks de simulation.
+     */
+    public static final int DELAY_BETWEEN_TICKS = DELAY_BETWEEN * 60 / 1000;
+
+    /**
+     * Durée d'ouverture d'une trappe en ticks de simulation (500 ms), transitions comprises.
+     */
+    public static final int TRAPDOOR_OPEN_TICKS = 500 * 60 / 1000;
+
+    /**
+     * Durée de l'ouverture et de la fermeture d'une trappe en ticks de simulation.
+     */
+    public static final int TRAPDOOR_TRANSITION_TICKS = 6;
+
     /**
      * Temps de recharge des projectiles en nanosecondes.
      */
     public static final int PROJECTILES_COOLDOWN = 100_000_000;
 
+    /**
+     * Temps de recharge des projectiles en ticks de simulation.
+     */
+    public static final int PROJECTILES_COOLDOWN_TICKS = PROJECTILES_COOLDOWN / (1_000_000_000 / 60);
+
+    /**
+     * Nombre maximal de projectiles en vol en même temps.
+     */
+    public static final int MAX_PROJECTILES = 64;
+
 
     /**
      * Intervalle de temps en nanosecondes pour la mise à jour du jeu.
      */
     public static final int INTERVAL = 1000000000 / 60;
 
+    /**
+     * Nombre maximal de pas de simulation rattrapés en une seule image.
+     */
+    public static final int MAX_STEPS_PER_FRAME = 5;
+
     /**
      * Taille d'une case du jeu en pixels.
      */
     public static final int SIZE_CASE = 25;
 
+    /**
+     * Taille en pixels d'une cellule de la phase large des collisions entre entités.
+     */
+    public static final int BROAD_PHASE_CELL = 64;
+
+    /**
+     * Taille mémoire maximale des textures gardées en cache, en octets.
+     */
+    public static final long TEXTURE_CACHE_BYTES = 32L * 1024 * 1024;
+
+    /**
+     * Moteur d'affichage de chaque mode de jeu. Le Canvas convient aux parties avec beaucoup d'entités à l'écran.
+     */
+    public static final RenderBackend RENDER_BACKEND_SOLO = RenderBackend.SCENE_GRAPH;
+    public static final RenderBackend RENDER_BACKEND_VS = RenderBackend.SCENE_GRAPH;
+    public static final RenderBackend RENDER_BACKEND_COOP = RenderBackend.SCENE_GRAPH;
+
+    /**
+     * Zoom de la caméra qui suit le joueur en mode CAMERA.
+     */
+    public static final double CAMERA_ZOOM = 1.5;
+
+    /**
+     * Taille en pixels d'une cellule de l'index des noeuds du niveau, utilisé pour n'afficher que ceux visibles par la caméra.
+     */
+    public static final int CULLING_CELL = 4 * SIZE_CASE;
+
+    /**
+     * Marge en pixels autour de la zone visible par la caméra, dans laquelle les entités restent simulées à chaque tick.
+     */
+    public static final int LOD_MARGIN = 150;
+
+    /**
+     * Nombre de ticks entre deux pas de simulation d'une entité hors de la zone visible.
+     */
+    public static final int LOD_INTERVAL = 4;
+
+    /**
+     * Nombre d'aliens et de survivants à partir duquel leurs collisions avec les murs sont calculées en parallèle.
+     */
+    public static final int PARALLEL_THRESHOLD = 256;
+
+    /**
+     * Nombre minimal d'entités traitées par une tâche lors du calcul en parallèle.
+     */
+    public static final int PARALLEL_CHUNK = 64;
+
     /**
      * Force du saut du joueur.
      */
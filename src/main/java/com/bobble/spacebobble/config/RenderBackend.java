@@ -0,0 +1,15 @@
+package com.bobble.spacebobble.config;
+
+/**
+ * Classe Enum pour le moteur d'affichage du jeu.
+ */
+public enum RenderBackend {
+    /**
+     * Un noeud JavaFX par bloc, entité et projectile.
+     */
+    SCENE_GRAPH,
+    /**
+     * Un seul Canvas redessiné à chaque image, adapté aux niveaux chargés en entités.
+     */
+    CANVAS
+}
@@ -6,6 +6,7 @@ import com.bobble.spacebobble.controller.service.ClientInput;
 import com.bobble.spacebobble.controller.service.SoundtrackPlayer;
 import com.bobble.spacebobble.core.GameClient;
 import com.bobble.spacebobble.core.scores.Leaderboard;
+import com.bobble.spacebobble.core.utilities.FixedStepClock;
 import com.bobble.spacebobble.gestion.ResourceManager;
 import com.bobble.spacebobble.ui.MainMenu;
 import javafx.animation.AnimationTimer;
@@ -120,19 +121,21 @@ public class CoopController {
      * @param soundtrack  Lecteur de bande son
      */
     private void gameLoop(GameClient gameClient, ClientInput clientInput, SoundtrackPlayer soundtrack) {
+        FixedStepClock clock = new FixedStepClock(GameConstants.INTERVAL, GameConstants.MAX_STEPS_PER_FRAME);
         gameLoop = new AnimationTimer() {
-            long before = System.nanoTime();
             long lastDataTime = System.nanoTime();
 
             @Override
             public void handle(long now) {
-                if (now - before >= GameConstants.INTERVAL) {
-                    before = now;
+                int steps = clock.advance(now);
+                for (int i = 0; i < steps; i++) {
                     try {
                         gameClient.update();
                     } catch (IOException e) {
                         throw new RuntimeException(e);
                     }
+                }
+                if (steps > 0) {
                     if (now - lastDataTime >= GameConstants.SEND_DELAY) {
                         lastDataTime = now;
                         try {
@@ -152,6 +155,7 @@ public class CoopController {
                     }
                     gameClient.updateEntities();
                 }
+                gameClient.render(clock.getAlpha());
             }
         };
         gameLoop.start();
@@ -7,8 +7,10 @@ import com.bobble.spacebobble.controller.service.PlayerInput;
 import com.bobble.spacebobble.controller.service.SoundtrackPlayer;
 import com.bobble.spacebobble.core.GameWorld;
 import com.bobble.spacebobble.core.scores.Leaderboard;
+import com.bobble.spacebobble.core.utilities.FixedStepClock;
 import com.bobble.spacebobble.gestion.ResourceManager;
 import com.bobble.spacebobble.gestion.VisualManager;
+import com.bobble.spacebobble.render.PaneView;
 import javafx.animation.AnimationTimer;
 import javafx.application.Platform;
 import javafx.event.ActionEvent;
@@ -61,8 +63,9 @@ public class VSController {
     private void initGame(String pseudoText) {
         GameWorld gameWorld = new GameWorld(Mode.WITHOUT_CAMERA);
         gameWorld.getScore().setName(pseudoText);
-        gamePane = gameWorld.getScene();
-        ResourceManager.setComposantBackground(gamePane, "/asset/background/lvl1.png");
+        PaneView view = PaneView.create(GameConstants.RENDER_BACKEND_VS);
+        gameWorld.setView(view);
+        gamePane = view.getPane();
         leaderboard = ResourceManager.initLeaderboard(filename);
         Scene scene = new Scene(gamePane);
         scene.getStylesheets().add(String.valueOf(SoloController.class.getResource("/fxml_css/style.css").toExternalForm()));
@@ -95,20 +98,22 @@ public class VSController {
      * @param soundtrack  lecteur de la bande son
      */
     private void gameLoop(GameWorld gameWorld, PlayerInput playerInput, SoundtrackPlayer soundtrack) {
+        FixedStepClock clock = new FixedStepClock(GameConstants.INTERVAL, GameConstants.MAX_STEPS_PER_FRAME);
         AnimationTimer gameLoop = new AnimationTimer() {
-            long before = System.nanoTime();
 
             @Override
             public void handle(long now) {
-                if (now - before >= GameConstants.INTERVAL) {
-                    before = now;
+                int steps = clock.advance(now);
+                for (int i = 0; i < steps; i++) {
                     gameWorld.update();
-                    gameWorld.render();
                     if (gameWorld.isGameFinished() || gameWorld.isGameOver()) {
+                        gameWorld.render();
                         gameEnd(gameWorld, playerInput, soundtrack);
                         stop();
+                        return;
                     }
                 }
+                gameWorld.render(clock.getAlpha());
             }
         };
 
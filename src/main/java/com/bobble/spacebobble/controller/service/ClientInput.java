@@ -3,16 +3,14 @@ package com.bobble.spacebobble.controller.service;
 import com.bobble.spacebobble.config.GameConstants;
 import com.bobble.spacebobble.core.GameClient;
 import com.bobble.spacebobble.core.entities.Bobble;
-import com.bobble.spacebobble.core.world.Block;
 import com.bobble.spacebobble.core.world.Trapdoor;
 import javafx.concurrent.Service;
 import javafx.concurrent.Task;
 import javafx.scene.Scene;
 import javafx.scene.input.KeyCode;
 
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Classe Service pour la gestion des entrées utilisateur dans le client de jeu.
@@ -20,10 +18,10 @@ import java.util.concurrent.TimeUnit;
 public class ClientInput extends Service<Void> {
     private final GameClient gameClient;
     private final Scene scene;
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
     private boolean isSPressed = false;
     private boolean isZPressed = false;
-    private long lastPressTime = 0;
+    private boolean actionReady = true;
+    private final List<Trapdoor> found = new ArrayList<>();
 
     /**
      * Constructeur.
@@ -60,29 +58,27 @@ public class ClientInput extends Service<Void> {
      * @param code code de la touche pressée
      */
     private void trapdoorEvents(KeyCode code) {
-        if (code == KeyCode.S && !isSPressed && System.currentTimeMillis() - lastPressTime >= GameConstants.DELAY_BETWEEN) {
-            lastPressTime = System.currentTimeMillis();
+        if (code == KeyCode.S && !isSPressed && actionReady) {
+            debounce();
             isSPressed = true;
-            for (Block wall : gameClient.getWalls()) {
-                if (wall instanceof Trapdoor trapdoor && isTrapdoorBelowBobble(trapdoor)) {
-                    trapdoor.open();
-                    scheduler.schedule(trapdoor::close, 500, TimeUnit.MILLISECONDS);
-                }
-            }
+            openTrapdoors(true);
         }
 
-        if (code == KeyCode.Z && !isZPressed && System.currentTimeMillis() - lastPressTime >= GameConstants.DELAY_BETWEEN) {
-            lastPressTime = System.currentTimeMillis();
+        if (code == KeyCode.Z && !isZPressed && actionReady) {
+            debounce();
             isZPressed = true;
-            for (Block wall : gameClient.getWalls()) {
-                if (wall instanceof Trapdoor trapdoor && isTrapdoorAboveBobble(trapdoor)) {
-                    trapdoor.open();
-                    scheduler.schedule(trapdoor::close, 500, TimeUnit.MILLISECONDS);
-                }
-            }
+            openTrapdoors(false);
         }
     }
 
+    /**
+     * Bloque les actions du joueur pendant DELAY_BETWEEN_TICKS ticks de jeu.
+     */
+    private void debounce() {
+        actionReady = false;
+        gameClient.getTimers().schedule(GameConstants.DELAY_BETWEEN_TICKS, () -> actionReady = true);
+    }
+
     /**
      * Gère les événements de relâchement de touche.
      *
@@ -98,28 +94,20 @@ public class ClientInput extends Service<Void> {
     }
 
     /**
-     * Vérifie si la trapdoor est en dessous du Bobble.
-     *
-     * @param trapdoor trapdoor à vérifier
-     * @return true si la trapdoor est en dessous du Bobble, sinon false
-     */
-    private boolean isTrapdoorBelowBobble(Trapdoor trapdoor) {
-        Bobble bobble = gameClient.getBobble();
-        return bobble.getPosition().getY() < trapdoor.getY()
-                && bobble.getPosition().getX() < trapdoor.getX() + trapdoor.getTile().getWidth()
-                && bobble.getPosition().getX() + bobble.getSprite().getWidth() > trapdoor.getX();
-    }
-
-    /**
-     * Vérifie si la trapdoor est au-dessus du Bobble.
+     * Ouvre les trappes situées en dessous ou au-dessus du Bobble, trouvées grâce à l'index des trappes du niveau.
      *
-     * @param trapdoor trapdoor à vérifier
-     * @return true si la trapdoor est au-dessus du Bobble, sinon false
+     * @param below true pour les trappes en dessous du Bobble, false pour celles au-dessus
      */
-    private boolean isTrapdoorAboveBobble(Trapdoor trapdoor) {
+    private void openTrapdoors(boolean below) {
         Bobble bobble = gameClient.getBobble();
-        return bobble.getPosition().getY() > trapdoor.getY()
-                && bobble.getPosition().getX() < trapdoor.getX() + trapdoor.getTile().getWidth()
-                && bobble.getPosition().getX() + bobble.getSprite().getWidth() > trapdoor.getX();
+        found.clear();
+        if (below) {
+            gameClient.getTrapdoorIndex().below(bobble.getPosition().getX(), bobble.getPosition().getY(), bobble.getWidth(), found);
+        } else {
+            gameClient.getTrapdoorIndex().above(bobble.getPosition().getX(), bobble.getPosition().getY(), bobble.getWidth(), found);
+        }
+        for (Trapdoor trapdoor : found) {
+            trapdoor.open();
+        }
     }
 }
@@ -4,17 +4,15 @@ import com.bobble.spacebobble.config.GameConstants;
 import com.bobble.spacebobble.config.Mode;
 import com.bobble.spacebobble.core.GameWorld;
 import com.bobble.spacebobble.core.entities.Alien;
-import com.bobble.spacebobble.core.entities.Bobble;
-import com.bobble.spacebobble.core.world.Block;
+import com.bobble.spacebobble.core.entities.MovingEntity;
 import com.bobble.spacebobble.core.world.Trapdoor;
 import javafx.concurrent.Service;
 import javafx.concurrent.Task;
 import javafx.scene.Scene;
 import javafx.scene.input.KeyCode;
 
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Classe service pour la gestion des entrées utilisateur des joueurs pour le mode Solo et VS
@@ -23,14 +21,14 @@ public class PlayerInput extends Service<Void> {
     private final GameWorld gameWorld;
     private final Scene scene;
     private final Mode mode;
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
 
     private boolean isSPressed = false;
     private boolean isZPressed = false;
     private boolean isDownPressed = false;
     private boolean isUPPressed = false;
     private boolean is0Pressed = false;
-    private long lastPressTime = 0;
+    private boolean actionReady = true;
+    private final List<Trapdoor> found = new ArrayList<>();
 
     /**
      * Constructeur du service
@@ -87,48 +85,28 @@ public class PlayerInput extends Service<Void> {
      * @param code code de la touche pressée
      */
     private void trapdoorEvents(KeyCode code) {
-        if (code == KeyCode.S && !isSPressed && System.currentTimeMillis() - lastPressTime >= GameConstants.DELAY_BETWEEN) {
-            lastPressTime = System.currentTimeMillis();
+        if (code == KeyCode.S && !isSPressed && actionReady) {
+            debounce();
             isSPressed = true;
-            for (Block wall : gameWorld.getWalls()) {
-                if (wall instanceof Trapdoor trapdoor && isTrapdoorBelowBobble(trapdoor)) {
-                    trapdoor.open();
-                    scheduler.schedule(trapdoor::close, 500, TimeUnit.MILLISECONDS);
-                }
-            }
+            openTrapdoors(gameWorld.getBobble(), true);
         }
 
-        if (code == KeyCode.Z && !isZPressed && System.currentTimeMillis() - lastPressTime >= GameConstants.DELAY_BETWEEN) {
-            lastPressTime = System.currentTimeMillis();
+        if (code == KeyCode.Z && !isZPressed && actionReady) {
+            debounce();
             isZPressed = true;
-            for (Block wall : gameWorld.getWalls()) {
-                if (wall instanceof Trapdoor trapdoor && isTrapdoorAboveBobble(trapdoor)) {
-                    trapdoor.open();
-                    scheduler.schedule(trapdoor::close, 500, TimeUnit.MILLISECONDS);
-                }
-            }
+            openTrapdoors(gameWorld.getBobble(), false);
         }
 
-        if (code == KeyCode.DOWN && !isDownPressed && System.currentTimeMillis() - lastPressTime >= GameConstants.DELAY_BETWEEN) {
-            lastPressTime = System.currentTimeMillis();
+        if (code == KeyCode.DOWN && !isDownPressed && actionReady) {
+            debounce();
             isDownPressed = true;
-            for (Block wall : gameWorld.getWalls()) {
-                if (wall instanceof Trapdoor && isTrapdoorBelow((Trapdoor) wall)) {
-                    ((Trapdoor) wall).open();
-                    scheduler.schedule(((Trapdoor) wall)::close, 500, TimeUnit.MILLISECONDS);
-                }
-            }
+            openTrapdoors(getControlledAlien(), true);
         }
 
-        if (code == KeyCode.UP && !isUPPressed && System.currentTimeMillis() - lastPressTime >= GameConstants.DELAY_BETWEEN) {
-            lastPressTime = System.currentTimeMillis();
+        if (code == KeyCode.UP && !isUPPressed && actionReady) {
+            debounce();
             isUPPressed = true;
-            for (Block wall : gameWorld.getWalls()) {
-                if (wall instanceof Trapdoor && isTrapdoorAbove((Trapdoor) wall)) {
-                    ((Trapdoor) wall).open();
-                    scheduler.schedule(((Trapdoor) wall)::close, 500, TimeUnit.MILLISECONDS);
-                }
-            }
+            openTrapdoors(getControlledAlien(), false);
         }
     }
 
@@ -138,15 +116,23 @@ public class PlayerInput extends Service<Void> {
      * @param code code de la touche pressée
      */
     private void changeControl(KeyCode code) {
-        if (code == KeyCode.NUMPAD0 && !is0Pressed && System.currentTimeMillis() - lastPressTime >= GameConstants.DELAY_BETWEEN) {
-            lastPressTime = System.currentTimeMillis();
+        if (code == KeyCode.NUMPAD0 && !is0Pressed && actionReady) {
+            debounce();
             isUPPressed = true;
-            Alien alienControlled = gameWorld.getAliens().stream().filter(Alien::isControlled).findFirst().orElse(null);
+            Alien alienControlled = getControlledAlien();
             assert alienControlled != null;
             alienControlled.setControlled(false);
         }
     }
 
+    /**
+     * Bloque les actions du joueur pendant DELAY_BETWEEN_TICKS ticks de jeu.
+     */
+    private void debounce() {
+        actionReady = false;
+        gameWorld.getTimers().schedule(GameConstants.DELAY_BETWEEN_TICKS, () -> actionReady = true);
+    }
+
     /**
      * Gère les événements de relâchement de touche.
      *
@@ -193,54 +179,32 @@ public class PlayerInput extends Service<Void> {
     }
 
     /**
-     * Vérifie si la trapdoor est en dessous du Bobble.
+     * Ouvre les trappes situées en dessous ou au-dessus d'une entité, trouvées grâce à l'index des trappes du niveau.
      *
-     * @param trapdoor trapdoor à vérifier
-     * @return true si la trapdoor est en dessous du Bobble, sinon false
+     * @param entity entité de référence, ignorée si null
+     * @param below  true pour les trappes en dessous de l'entité, false pour celles au-dessus
      */
-    private boolean isTrapdoorBelowBobble(Trapdoor trapdoor) {
-        Bobble bobble = gameWorld.getBobble();
-        return bobble.getPosition().getY() < trapdoor.getY()
-                && bobble.getPosition().getX() < trapdoor.getX() + trapdoor.getTile().getWidth()
-                && bobble.getPosition().getX() + bobble.getSprite().getWidth() > trapdoor.getX();
-    }
-
-    /**
-     * Vérifie si la trapdoor est au-dessus du Bobble.
-     *
-     * @param trapdoor trapdoor à vérifier
-     * @return true si la trapdoor est au-dessus du Bobble, sinon false
-     */
-    private boolean isTrapdoorAboveBobble(Trapdoor trapdoor) {
-        Bobble bobble = gameWorld.getBobble();
-        return bobble.getPosition().getY() > trapdoor.getY()
-                && bobble.getPosition().getX() < trapdoor.getX() + trapdoor.getTile().getWidth()
-                && bobble.getPosition().getX() + bobble.getSprite().getWidth() > trapdoor.getX();
-    }
-
-    /**
-     * Vérifie si la trapdoor est en dessous de l'alien contrôlé.
-     *
-     * @param trapdoor trapdoor à vérifier
-     * @return true si la trapdoor est en dessous de l'alien contrôlé, sinon false
-     */
-    private boolean isTrapdoorBelow(Trapdoor trapdoor) {
-        Alien alienControlled = gameWorld.getAliens().stream().filter(Alien::isControlled).findFirst().orElse(null);
-        return alienControlled != null && alienControlled.getPosition().getY() < trapdoor.getY()
-                && alienControlled.getPosition().getX() < trapdoor.getX() + trapdoor.getTile().getWidth()
-                && alienControlled.getPosition().getX() + alienControlled.getSprite().getWidth() > trapdoor.getX();
+    private void openTrapdoors(MovingEntity entity, boolean below) {
+        if (entity == null) {
+            return;
+        }
+        found.clear();
+        if (below) {
+            gameWorld.getTrapdoorIndex().below(entity.getPosition().getX(), entity.getPosition().getY(), entity.getWidth(), found);
+        } else {
+            gameWorld.getTrapdoorIndex().above(entity.getPosition().getX(), entity.getPosition().getY(), entity.getWidth(), found);
+        }
+        for (Trapdoor trapdoor : found) {
+            trapdoor.open();
+        }
     }
 
     /**
-     * Vérifie si la trapdoor est au-dessus de l'alien contrôlé.
+     * Renvoie l'alien contrôlé par le joueur.
      *
-     * @param trapdoor trapdoor à vérifier
-     * @return true si la trapdoor est au-dessus de l'alien contrôlé, sinon false
+     * @return l'alien contrôlé, ou null si aucun alien n'est contrôlé
      */
-    private boolean isTrapdoorAbove(Trapdoor trapdoor) {
-        Alien alienControlled = gameWorld.getAliens().stream().filter(Alien::isControlled).findFirst().orElse(null);
-        return alienControlled != null && alienControlled.getPosition().getY() > trapdoor.getY()
-                && alienControlled.getPosition().getX() < trapdoor.getX() + trapdoor.getTile().getWidth()
-                && alienControlled.getPosition().getX() + alienControlled.getSprite().getWidth() > trapdoor.getX();
+    private Alien getControlledAlien() {
+        return gameWorld.getAliens().stream().filter(Alien::isControlled).findFirst().orElse(null);
     }
 }
@@ -1,6 +1,7 @@
 package com.bobble.spacebobble.core;
 
 import com.bobble.spacebobble.config.GameConstants;
+import com.bobble.spacebobble.config.RenderBackend;
 import com.bobble.spacebobble.config.Team;
 import com.bobble.spacebobble.controller.CoopController;
 import com.bobble.spacebobble.core.entities.Bobble;
@@ -10,13 +11,18 @@ import com.bobble.spacebobble.core.entities.Server.OtherBobble;
 import com.bobble.spacebobble.core.scores.Leaderboard;
 import com.bobble.spacebobble.core.scores.Score;
 import com.bobble.spacebobble.core.utilities.Position;
+import com.bobble.spacebobble.core.utilities.TimerWheel;
 import com.bobble.spacebobble.core.world.Block;
+import com.bobble.spacebobble.core.world.TileGrid;
+import com.bobble.spacebobble.core.world.TrapdoorIndex;
 import com.bobble.spacebobble.gestion.ResourceManager;
 import com.bobble.spacebobble.gestion.WorldServerGenerator;
 import com.bobble.spacebobble.network.Packet.AlienPacket;
 import com.bobble.spacebobble.network.Packet.BobblePacket;
 import com.bobble.spacebobble.network.Packet.GamePacket;
 import com.bobble.spacebobble.network.Packet.SurvivorPacket;
+import com.bobble.spacebobble.render.CanvasRenderer;
+import com.bobble.spacebobble.render.NodeTracker;
 import javafx.scene.Group;
 import javafx.scene.layout.Pane;
 
@@ -41,7 +47,12 @@ public class GameClient {
     private final List<SurvivorPacket> survivorsSaved;
     private final Socket socket;
     private final Group gameObjects;
+    // Sprites attachés aux objets du jeu, mis à jour en une fois à chaque image
+    private final NodeTracker sprites;
     private final Pane pane;
+    // Avec le moteur Canvas, les noeuds du jeu restent hors de la scène dans ce panneau et sont dessinés par le renderer
+    private final Pane scenery;
+    private final CanvasRenderer renderer;
     private final ObjectInputStream in;
     private final ObjectOutputStream out;
     private final int playerID;
@@ -50,7 +61,8 @@ public class GameClient {
     private List<SurvivorPacket> survivorPackets;
     private List<AlienPacket> alienPackets;
     private Bobble bobble;
-    private long respawnTime;
+    private final TimerWheel timers = new TimerWheel();
+    private TimerWheel.Timer invulnerability;
     private int numberOfLives = 2;
     private boolean gameOver = false;
     private boolean gameFinished = false;
@@ -71,7 +83,16 @@ public class GameClient {
         this.in = in;
         this.socket = socket;
         this.gameObjects = new Group();
-        this.pane = new Pane(gameObjects);
+        this.sprites = new NodeTracker(gameObjects.getChildren());
+        if (GameConstants.RENDER_BACKEND_COOP == RenderBackend.CANVAS) {
+            this.renderer = new CanvasRenderer(GameConstants.SCENE_WIDTH, GameConstants.SCENE_HEIGHT);
+            this.scenery = new Pane(gameObjects);
+            this.pane = new Pane(renderer.getCanvas());
+        } else {
+            this.renderer = null;
+            this.pane = new Pane(gameObjects);
+            this.scenery = pane;
+        }
         this.playerID = playerID;
         Team teamColor = (playerID % 2 == 0) ? Team.BLUE : Team.RED;
         this.score = new Score();
@@ -93,7 +114,7 @@ public class GameClient {
     public void generateLevel() throws IOException, ClassNotFoundException {
 
         // Initialisation du gestionnaire de niveau et chargement du niveau
-        worldServerGenerator = new WorldServerGenerator(pane, socket);
+        worldServerGenerator = new WorldServerGenerator(scenery, socket);
         worldServerGenerator.loadLevel();
 
         // Réception des données des survivants et des aliens depuis le serveur
@@ -101,8 +122,8 @@ public class GameClient {
         alienPackets = (List<AlienPacket>) in.readObject();
 
         // Initialisation de l'objet bobble principal
-        bobble = new Bobble(5, new Position(50, 50), worldServerGenerator.getWalls());
-        gameObjects.getChildren().add(bobble.getSprite());
+        bobble = new Bobble(5, new Position(50, 50), worldServerGenerator.getTileGrid());
+        sprites.attach(bobble.getSprite());
     }
 
     /**
@@ -114,15 +135,14 @@ public class GameClient {
         if (receivedData instanceof List<?> dataList) {
             for (Object item : dataList) {
                 if (item instanceof BobblePacket bobblePacket) {
-                    handlePlayerState(bobblePacket, otherBobble, gameObjects, playerID);
+                    handlePlayerState(bobblePacket, otherBobble, playerID);
                 } else if (item instanceof SurvivorPacket survivorPacket) {
-                    CoopSurvivor survivor = survivors.computeIfAbsent(survivorPacket.getID(), id -> new CoopSurvivor(survivorPacket.getID(), new Position(survivorPacket.getX(), survivorPacket.getY()), worldServerGenerator.getWalls(), survivorPacket.isDirection()));
-                    if (!gameObjects.getChildren().contains(survivor.getSprite())) {
-                        gameObjects.getChildren().add(survivor.getSprite());
-                    }
+                    CoopSurvivor survivor = survivors.computeIfAbsent(survivorPacket.getID(), id -> new CoopSurvivor(survivorPacket.getID(), new Position(survivorPacket.getX(), survivorPacket.getY()), worldServerGenerator.getTileGrid(), survivorPacket.isDirection()));
                     if (survivorPacket.isSaved()) {
-                        gameObjects.getChildren().remove(survivor.getSprite());
+                        sprites.detach(survivor.getSprite());
                         survivor.setSaved(true);
+                    } else {
+                        sprites.attach(survivor.getSprite());
                     }
                 }
             }
@@ -154,16 +174,15 @@ public class GameClient {
      *
      * @param bobblePacket Les données des états des joueurs reçues depuis le serveur.
      * @param otherBobble  La ConcurrentHashMap contenant les autres joueurs.
-     * @param gameObjects  Le groupe des objets de jeu.
      * @param playerID     L'ID du joueur connecté.
      */
-    private void handlePlayerState(BobblePacket bobblePacket, ConcurrentHashMap<Integer, OtherBobble> otherBobble, Group gameObjects, int playerID) {
+    private void handlePlayerState(BobblePacket bobblePacket, ConcurrentHashMap<Integer, OtherBobble> otherBobble, int playerID) {
         if (bobblePacket.getPlayerID() != playerID) {
             // Si aucun objet OtherPlayer n'existe pour l'ID du joueur, alors nous en créons un avec la bobblePacket donnée.
             OtherBobble other = otherBobble.computeIfAbsent(bobblePacket.getPlayerID(), id -> {
                 OtherBobble newPlayer = new OtherBobble(bobblePacket);
                 // Nous ajoutons également le sprite du nouvel objet au groupe d'objets de jeu.
-                gameObjects.getChildren().add(newPlayer.getSprite());
+                sprites.attach(newPlayer.getSprite());
                 // Nous retournons le nouvel objet afin qu'il puisse être ajouté à la ConcurrentHashmap.
                 return newPlayer;
             });
@@ -176,42 +195,41 @@ public class GameClient {
      * Gère les données des aliens reçues depuis le serveur et met à jour l'état de jeu en conséquence.
      *
      * @param alienPacket Les données des aliens reçues depuis le serveur.
-     * @param walls       La liste des murs dans le niveau de jeu.
+     * @param grid        La grille des tuiles du niveau de jeu.
      */
-    private void handleAlienData(AlienPacket alienPacket, List<Block> walls) {
+    private void handleAlienData(AlienPacket alienPacket, TileGrid grid) {
         CoopAlien alien = aliens.computeIfAbsent(alienPacket.getId(), id -> {
-            CoopAlien coopAlien = new CoopAlien(alienPacket.getId(), new Position(alienPacket.getX(), alienPacket.getY()), walls, alienPacket.isDirection());
-            gameObjects.getChildren().add(coopAlien.getSprite());
+            CoopAlien coopAlien = new CoopAlien(alienPacket.getId(), new Position(alienPacket.getX(), alienPacket.getY()), grid, alienPacket.isDirection());
+            sprites.attach(coopAlien.getSprite());
             return coopAlien;
         });
 
-        if (bobble.collidesWith(alien.getSprite()) && !bobble.isInvincible()) {
+        if (bobble.collidesWith(alien) && !bobble.isInvincible()) {
             bobble.setHealth(bobble.getHealth() - 1);
             score.setTotal(score.getTotal() - 150);
             notifyChange();
 
         }
+        alien.savePreviousPosition();
         alien.move();
-        alien.updateSprite();
-        alien.animeSprite();
     }
 
     /**
      * Gère les données des survivants reçues depuis le serveur et met à jour l'état de jeu en conséquence.
      *
      * @param survivorPacket Les données des survivants reçues depuis le serveur.
-     * @param walls          La liste des murs dans le niveau de jeu.
+     * @param grid           La grille des tuiles du niveau de jeu.
      * @param coopSurvivors  La ConcurrentHashMap contenant les survivants.
      */
-    private void handleSurvivorsData(SurvivorPacket survivorPacket, List<Block> walls, ConcurrentHashMap<Integer, CoopSurvivor> coopSurvivors) {
+    private void handleSurvivorsData(SurvivorPacket survivorPacket, TileGrid grid, ConcurrentHashMap<Integer, CoopSurvivor> coopSurvivors) {
         CoopSurvivor coopSurvivor = coopSurvivors.computeIfAbsent(survivorPacket.getID(), id -> {
             CoopSurvivor newSurvivors = new CoopSurvivor(survivorPacket.getID(), new Position(survivorPacket.getX(),
-                    survivorPacket.getY()), walls, survivorPacket.isDirection());
-            gameObjects.getChildren().add(newSurvivors.getSprite());
+                    survivorPacket.getY()), grid, survivorPacket.isDirection());
+            sprites.attach(newSurvivors.getSprite());
             return newSurvivors;
         });
-        if (bobble.collidesWith(coopSurvivor.getSprite()) && !bobble.isInvincible() && !coopSurvivor.isSaved() && bobble.isAlive()) {
-            gameObjects.getChildren().remove(coopSurvivor.getSprite());
+        if (bobble.collidesWith(coopSurvivor) && !bobble.isInvincible() && !coopSurvivor.isSaved() && bobble.isAlive()) {
+            sprites.detach(coopSurvivor.getSprite());
             coopSurvivor.setSaved(true);
             synchronized (score) {
                 score.setTotal(score.getTotal() + 500);
@@ -219,9 +237,8 @@ public class GameClient {
             }
             survivorsSaved.add(survivorPacket);
         } else {
+            coopSurvivor.savePreviousPosition();
             coopSurvivor.move();
-            coopSurvivor.updateSprite();
-            coopSurvivor.animeSprite();
         }
     }
 
@@ -231,12 +248,12 @@ public class GameClient {
     public void updateEntities() {
         // Supprime le bobble et les objets de jeu des autres joueurs s'ils ne sont plus en vie
         if (!bobble.isAlive()) {
-            gameObjects.getChildren().remove(bobble.getSprite());
+            sprites.detach(bobble.getSprite());
         }
         for (Map.Entry<Integer, OtherBobble> entry : otherBobble.entrySet()) {
             OtherBobble otherBobble = entry.getValue();
             if (!otherBobble.isAlive()) {
-                gameObjects.getChildren().remove(otherBobble.getSprite());
+                sprites.detach(otherBobble.getSprite());
                 this.otherBobble.remove(entry.getKey());
             }
         }
@@ -297,13 +314,13 @@ public class GameClient {
      * Met à jour les aliens dans l'état de jeu.
      *
      * @param alienPacketList La liste des données d'aliens reçues depuis le serveur.
-     * @param walls           La liste des murs dans le niveau de jeu.
+     * @param grid            La grille des tuiles du niveau de jeu.
      */
-    private void updateAliens(List<AlienPacket> alienPacketList, List<Block> walls) {
+    private void updateAliens(List<AlienPacket> alienPacketList, TileGrid grid) {
 
         // Boucle à travers la liste des données d'aliens et gère chaque élément
         for (AlienPacket alienPacket : alienPacketList) {
-            handleAlienData(alienPacket, walls);
+            handleAlienData(alienPacket, grid);
         }
     }
 
@@ -311,13 +328,13 @@ public class GameClient {
      * Met à jour les survivants dans l'état de jeu.
      *
      * @param survivorPacketList La liste des données de survivants reçues depuis le serveur.
-     * @param walls              La liste des murs dans le niveau de jeu.
+     * @param grid               La grille des tuiles du niveau de jeu.
      */
-    private void updateSurvivors(List<SurvivorPacket> survivorPacketList, List<Block> walls) {
+    private void updateSurvivors(List<SurvivorPacket> survivorPacketList, TileGrid grid) {
 
         // Boucle à travers la liste des données de survivants et gère chaque élément
         for (SurvivorPacket survivorPacket : survivorPacketList) {
-            handleSurvivorsData(survivorPacket, walls, survivors);
+            handleSurvivorsData(survivorPacket, grid, survivors);
         }
     }
 
@@ -369,20 +386,46 @@ public class GameClient {
      * Met à jour l'état de jeu localement.
      */
     public void update() throws IOException {
+        // Avance les minuteurs et l'état des trappes
+        timers.advance();
+        worldServerGenerator.getTileGrid().updateTrapdoors();
         // Met à jour les aliens et les survivants
-        updateAliens(alienPackets, worldServerGenerator.getWalls());
-        updateSurvivors(survivorPackets, worldServerGenerator.getWalls());
-        // Déplace le bobble et met à jour son affichage
+        updateAliens(alienPackets, worldServerGenerator.getTileGrid());
+        updateSurvivors(survivorPackets, worldServerGenerator.getTileGrid());
+        // Déplace le bobble
+        bobble.savePreviousPosition();
         bobble.move();
-        bobble.updateSprite();
-        bobble.animeSprite();
-        // Vérifie l'état d'invincibilité du bobble
-        checkInvulnerability();
         // Vérifie l'état de la partie
         checkGameStatus();
 
     }
 
+    /**
+     * Met à jour l'affichage du bobble, des aliens et des survivants,
+     * interpolé entre le tick précédent et le tick courant.
+     *
+     * @param alpha le facteur d'interpolation entre 0 (tick précédent) et 1 (tick courant)
+     */
+    public void render(double alpha) {
+        for (CoopAlien alien : aliens.values()) {
+            alien.updateSprite(alpha);
+            alien.animeSprite();
+        }
+        for (CoopSurvivor coopSurvivor : survivors.values()) {
+            if (!coopSurvivor.isSaved()) {
+                coopSurvivor.updateSprite(alpha);
+                coopSurvivor.animeSprite();
+            }
+        }
+        bobble.updateSprite(alpha);
+        bobble.animeSprite();
+        sprites.flush();
+        if (renderer != null) {
+            renderer.begin();
+            renderer.draw(scenery);
+        }
+    }
+
     /**
      * Mise à jour de l'envoi de l'état du jeu.
      */
@@ -399,21 +442,14 @@ public class GameClient {
         bobble.setPosition(300, 50);
         bobble.setInvincible(true);
         bobble.getSprite().setOpacity(0.5);
-        // Met à jour le temps de réapparition
-        respawnTime = System.currentTimeMillis();
-
-    }
-
-    /**
-     * Vérifie l'état d'invincibilité du bobble.
-     */
-    private void checkInvulnerability() {
-        // Vérifie si le bobble est invincible et que le temps de réapparition est passé
-        if (bobble.isInvincible() && (System.currentTimeMillis() - respawnTime) > GameConstants.DELAY_RESPAWN) {
-            // Met l'état d'invincibilité du bobble à faux et rétablit l'opacité de son objet de son sprite
+        // Planifie la fin de l'invincibilité, qui rétablit l'opacité du sprite
+        if (invulnerability != null) {
+            invulnerability.cancel();
+        }
+        invulnerability = timers.schedule(GameConstants.DELAY_RESPAWN_TICKS, () -> {
             bobble.setInvincible(false);
             bobble.getSprite().setOpacity(1);
-        }
+        });
     }
 
     /**
@@ -443,6 +479,24 @@ public class GameClient {
         return pane;
     }
 
+    /**
+     * Retourne les minuteurs du client, avancés d'un pas à chaque mise à jour.
+     *
+     * @return La roue des minuteurs.
+     */
+    public TimerWheel getTimers() {
+        return timers;
+    }
+
+    /**
+     * Retourne l'index par colonne des trappes du niveau de jeu.
+     *
+     * @return L'index des trappes du niveau.
+     */
+    public TrapdoorIndex getTrapdoorIndex() {
+        return worldServerGenerator.getTileGrid().getTrapdoorIndex();
+    }
+
     /**
      * Retourne la liste des murs dans le niveau de jeu.
      *
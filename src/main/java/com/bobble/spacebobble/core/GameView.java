@@ -0,0 +1,47 @@
+package com.bobble.spacebobble.core;
+
+import com.bobble.spacebobble.config.Levels;
+import com.bobble.spacebobble.core.entities.MovingEntity;
+import com.bobble.spacebobble.core.world.Block;
+
+import java.util.List;
+
+/**
+ * Adaptateur d'affichage optionnel du GameWorld.
+ * La simulation ne dépend que de cette interface : sans vue, le monde tourne sans toolkit JavaFX
+ * (simulation serveur, tests d'endurance, avance rapide).
+ */
+public interface GameView {
+
+    /**
+     * Appelée lorsqu'un niveau vient d'être généré (premier niveau ou passage au niveau suivant).
+     *
+     * @param world le monde du jeu
+     */
+    void onLevelLoaded(GameWorld world);
+
+    /**
+     * Appelée depuis le thread du jeu lorsque le niveau suivant a été généré en arrière-plan, pendant que le niveau
+     * courant est joué. La vue peut y préparer l'affichage de ce niveau, hors de la scène, pour que onLevelLoaded
+     * n'ait plus qu'à l'échanger avec l'affichage courant.
+     *
+     * @param walls  les murs du niveau suivant
+     * @param levels le niveau suivant
+     */
+    void onLevelPrefetched(List<Block> walls, Levels levels);
+
+    /**
+     * Appelée lorsqu'une entité est retirée de la simulation (morte ou sauvée).
+     *
+     * @param entity l'entité retirée
+     */
+    void onEntityRemoved(MovingEntity entity);
+
+    /**
+     * Affiche l'état courant du monde, interpolé entre le tick précédent et le tick courant.
+     *
+     * @param world le monde du jeu
+     * @param alpha le facteur d'interpolation entre 0 (tick précédent) et 1 (tick courant)
+     */
+    void render(GameWorld world, double alpha);
+}
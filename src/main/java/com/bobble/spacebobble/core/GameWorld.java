@@ -1,32 +1,36 @@
 package com.bobble.spacebobble.core;
 
 
-import com.bobble.spacebobble.Main;
 import com.bobble.spacebobble.config.*;
 import com.bobble.spacebobble.core.entities.Alien;
 import com.bobble.spacebobble.core.entities.Bobble;
+import com.bobble.spacebobble.core.entities.EntityStore;
+import com.bobble.spacebobble.core.entities.MovingEntity;
 import com.bobble.spacebobble.core.entities.Survivor;
 import com.bobble.spacebobble.core.scores.Score;
-import com.bobble.spacebobble.core.utilities.CameraPlayer;
 import com.bobble.spacebobble.core.utilities.Position;
+import com.bobble.spacebobble.core.utilities.TimerWheel;
+import com.bobble.spacebobble.core.world.AABB;
 import com.bobble.spacebobble.core.world.Block;
-import com.bobble.spacebobble.core.world.Projectile;
-import com.bobble.spacebobble.gestion.ResourceManager;
+import com.bobble.spacebobble.core.world.ProjectilePool;
+import com.bobble.spacebobble.core.world.SpatialHash;
+import com.bobble.spacebobble.core.world.TileGrid;
+import com.bobble.spacebobble.core.world.TrapdoorIndex;
 import com.bobble.spacebobble.gestion.WorldGenerator;
-import javafx.scene.Group;
 import javafx.scene.input.KeyCode;
-import javafx.scene.layout.Pane;
-import javafx.scene.paint.Color;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 /*
- * La classe principale GameWorld qui gère la logique de jeu, les entités, les sprites et les collisions.
+ * La classe principale GameWorld qui gère la logique de jeu, les entités et les collisions.
  * Cette classe contient des méthodes pour générer un niveau, mettre à jour l'état de
- * jeu, gérer les déplacements et les collisions, et afficher les entités.
+ * jeu, gérer les déplacements, les collisions, le score et la progression des niveaux.
+ * L'affichage est délégué à une GameView optionnelle : sans vue, la simulation tourne sans JavaFX.
  */
 public class GameWorld {
     // Structure du niveau
@@ -34,34 +38,58 @@ public class GameWorld {
     // Listes des entités statiques et mobiles
     private final CopyOnWriteArrayList<Alien> aliens = new CopyOnWriteArrayList<>();
     private final CopyOnWriteArrayList<Survivor> survivors = new CopyOnWriteArrayList<>();
-    private final CopyOnWriteArrayList<Projectile> projectiles = new CopyOnWriteArrayList<>();
-    private final List<Block> walls = new ArrayList<>();
-    // Elements visuels globaux
-    private final Group gameObjects = new Group();
-    private final CameraPlayer camera = new CameraPlayer(0, 0);
+    private final ProjectilePool projectiles = new ProjectilePool(GameConstants.MAX_PROJECTILES);
+    // État des aliens et des survivants en tableaux, mis à jour par passes à chaque tick
+    private final EntityStore walkers = new EntityStore();
+    private List<Block> walls = new ArrayList<>();
+    private TileGrid grid;
+    // Niveau suivant, généré en arrière-plan pendant que le niveau courant est joué
+    private CompletableFuture<WorldGenerator.GeneratedLevel> prefetchedLevel;
+    private Levels prefetchedLevels;
+    private boolean prefetchAnnounced = false;
+    // Phase large des collisions entre entités, reconstruite à chaque tick
+    private final SpatialHash<MovingEntity> broadPhase = new SpatialHash<>(GameConstants.BROAD_PHASE_CELL);
+    private final List<MovingEntity> nearbyEntities = new ArrayList<>();
     private final Mode mode;
+    // Générateur unique de la partie : une même graine et les mêmes entrées donnent la même partie
+    private final long seed;
+    private final Random random;
+    // Nombre de ticks simulés, sert d'horloge à la logique de jeu
+    private long tick = 0;
+    // Minuteurs de la partie, avancés au même rythme que les ticks
+    private final TimerWheel timers = new TimerWheel();
+    // Affichage optionnel
+    private GameView view;
     // Etats de la partie
     private final Score score = new Score();
     protected int numberOfLives = 2;
     private Bobble bobble;
-    private Pane pane;
     private boolean gameFinished = false;
     private boolean gameOver = false;
     // Paramètres liés à la logique interne
-    private long lastProjectile = 0;
+    private boolean projectileReady = true;
+    private TimerWheel.Timer invulnerability;
     private Alien lastControlledAlien = null;
     // Paramètres de la partie
     private Levels levels = Levels.EASY;
     private int maxAliens = NumberOfAliens.EASY.getValue();
     private int maxSurvivors = NumberOfSuvivors.EASY.getValue();
-    private long respawnTime = 0;
     private boolean direction = false;
 
     public GameWorld(Mode mode) {
+        this(mode, System.nanoTime());
+    }
+
+    /*
+     * Crée un monde déterministe : toute l'aléa de la partie vient d'un générateur initialisé avec la graine,
+     * et les délais sont comptés en ticks. Deux mondes créés avec la même graine et recevant les mêmes
+     * entrées aux mêmes ticks évoluent à l'identique, ce qui permet de rejouer une partie à partir de ses entrées.
+     */
+    public GameWorld(Mode mode, long seed) {
         this.mode = mode;
+        this.seed = seed;
+        this.random = new Random(seed);
         generateLevel();
-        this.pane = new Pane();
-
     }
 
     /*
@@ -78,12 +106,9 @@ public class GameWorld {
                 if (levels == Levels.MEDIUM) {
                     maxAliens = NumberOfAliens.MEDIUM.getValue();
                     maxSurvivors = NumberOfSuvivors.MEDIUM.getValue();
-                    Main.getInstance().getStage().getScene().setRoot(pane);
-                    ResourceManager.setComposantBackground(pane, "/asset/background/lvl2.png");
                 } else if (levels == Levels.HARD) {
                     maxAliens = NumberOfAliens.HARD.getValue();
                     maxSurvivors = NumberOfSuvivors.HARD.getValue();
-                    ResourceManager.setComposantBackground(pane, "/asset/background/lvl3.png");
                 }
                 clearLevel();
                 generateLevel();
@@ -95,29 +120,68 @@ public class GameWorld {
     }
 
     /*
-     * Génère un niveau avec les paramètres correspondants et ajoute les murs et les entités à
-     * l'affichage.
+     * Génère un niveau avec les paramètres correspondants et prévient la vue s'il y en a une.
+     * Le niveau préchargé est repris s'il correspond, sinon (ou si son préchargement a échoué)
+     * le niveau est généré immédiatement. La génération du niveau qui suit est ensuite lancée en arrière-plan.
      */
     private void generateLevel() {
-        level.createLevel(walls, levels.ordinal());
-        walls.forEach(w -> gameObjects.getChildren().add(w.getTile()));
+        WorldGenerator.GeneratedLevel generated = null;
+        if (prefetchedLevel != null && prefetchedLevels == levels) {
+            try {
+                generated = prefetchedLevel.join();
+            } catch (CompletionException e) {
+                System.out.println("Préchargement du niveau impossible : " + e.getCause());
+            }
+        }
+        if (generated != null) {
+            walls = generated.walls();
+            grid = generated.grid();
+        } else {
+            grid = level.createLevel(walls, levels.ordinal());
+        }
+        prefetchNextLevel();
         spawnSurvivors();
-        bobble = new Bobble(5, new Position(150, 150), walls);
+        bobble = new Bobble(5, new Position(150, 150), grid);
+        buildBroadPhase();
+        if (view != null) {
+            view.onLevelLoaded(this);
+        }
+    }
+
+    /*
+     * Lance la génération en arrière-plan du niveau qui suit le niveau courant, s'il existe.
+     */
+    private void prefetchNextLevel() {
+        prefetchedLevels = levels.getNextLevel();
+        prefetchedLevel = prefetchedLevels != null ? WorldGenerator.prefetchLevel(prefetchedLevels.ordinal()) : null;
+        prefetchAnnounced = false;
+    }
+
+    /*
+     * Présente le niveau préchargé à la vue dès qu'il est prêt, pour qu'elle prépare son affichage
+     * pendant le niveau courant. La simulation n'en dépend pas.
+     */
+    private void announcePrefetchedLevel() {
+        if (!prefetchAnnounced && view != null && prefetchedLevel != null
+                && prefetchedLevel.isDone() && !prefetchedLevel.isCompletedExceptionally()) {
+            prefetchAnnounced = true;
+            view.onLevelPrefetched(prefetchedLevel.join().walls(), prefetchedLevels);
+        }
     }
 
     /*
      * Génère les aliens aléatoirement dans le niveau
      */
     private void spawnAliens() {
-        Random rand = new Random();
         Alien spawn;
         while (aliens.size() <= maxAliens) {
-            int line = rand.nextInt(6) + 1;
-            int col = rand.nextInt(2);
+            int line = random.nextInt(6) + 1;
+            int col = random.nextInt(2);
             int x = (col == 0) ? 50 : 980;
             int y = 100 + (line - 1) * 100;
-            spawn = new Alien(5, new Position(x, y), walls);
+            spawn = new Alien(5, new Position(x, y), grid, random);
             aliens.add(spawn);
+            walkers.add(spawn);
         }
     }
 
@@ -125,15 +189,15 @@ public class GameWorld {
      * Génère les survivants aléatoirement dans le niveau
      */
     private void spawnSurvivors() {
-        Random rand = new Random();
         Survivor spawn;
         while (survivors.size() <= maxSurvivors) {
-            int line = rand.nextInt(6) + 1;
-            int col = rand.nextInt(2);
+            int line = random.nextInt(6) + 1;
+            int col = random.nextInt(2);
             int x = (col == 0) ? 50 : 980;
             int y = 100 + (line - 1) * 100;
-            spawn = new Survivor(1, new Position(x, y), walls);
+            spawn = new Survivor(1, new Position(x, y), grid, random);
             survivors.add(spawn);
+            walkers.add(spawn);
         }
     }
 
@@ -144,19 +208,10 @@ public class GameWorld {
         bobble.setHealth(3);
         bobble.setPosition(300, 50);
         bobble.setInvincible(true);
-        bobble.getSprite().setOpacity(0.5);
-        respawnTime = System.currentTimeMillis();
-    }
-
-    /*
-     * Vérifie si le bobble est invincible et si le temps de réapparition est écoulé.
-     * Si oui, met le bobble en mode normal et rétablit l'opacité de son sprite.
-     */
-    void checkInvulnerability() {
-        if (bobble.isInvincible() && (System.currentTimeMillis() - respawnTime) > GameConstants.DELAY_RESPAWN) {
-            bobble.setInvincible(false);
-            bobble.getSprite().setOpacity(1);
+        if (invulnerability != null) {
+            invulnerability.cancel();
         }
+        invulnerability = timers.schedule(GameConstants.DELAY_RESPAWN_TICKS, () -> bobble.setInvincible(false));
     }
 
     /*
@@ -175,52 +230,39 @@ public class GameWorld {
     }
 
     /*
-     * Met à jour les sprites des entités en fonction de leur état.
-     * Ajoute ou supprime les sprites des entités en fonction de leur état.
+     * Retire de la simulation les aliens et les survivants qui ne sont plus en vie.
+     * Chaque alien éliminé rapporte des points.
      */
-    private void updateSprites() {
-        if (bobble.isAlive()) {
-            bobble.updateSprite();
-            if (!gameObjects.getChildren().contains(bobble.getSprite())) {
-                gameObjects.getChildren().add(bobble.getSprite());
-            }
-        } else {
-            gameObjects.getChildren().remove(bobble.getSprite());
-        }
-
+    private void removeDeadEntities() {
         for (Alien alien : aliens) {
-            if (alien.isAlive()) {
-                alien.updateSprite();
-                if (alien.isControlled()) {
-                    alien.getSprite().setFill(Color.RED);
-                } else {
-                    alien.getSprite().setFill(Color.WHITE);
-                }
-                if (!gameObjects.getChildren().contains(alien.getSprite())) {
-                    gameObjects.getChildren().add(alien.getSprite());
-                }
-            } else {
+            if (!alien.isAlive()) {
                 synchronized (score) {
                     score.setTotal(score.getTotal() + 1000);
                     notifyChange();
                 }
                 aliens.remove(alien);
-                gameObjects.getChildren().remove(alien.getSprite());
+                walkers.remove(alien);
+                entityRemoved(alien);
             }
         }
         for (Survivor survivor : survivors) {
-            if (survivor.isAlive()) {
-                survivor.updateSprite();
-                if (!gameObjects.getChildren().contains(survivor.getSprite())) {
-                    gameObjects.getChildren().add(survivor.getSprite());
-                }
-            } else {
+            if (!survivor.isAlive()) {
                 survivors.remove(survivor);
-                gameObjects.getChildren().remove(survivor.getSprite());
+                walkers.remove(survivor);
+                entityRemoved(survivor);
             }
         }
     }
 
+    /*
+     * Prévient la vue qu'une entité a quitté la simulation.
+     */
+    private void entityRemoved(MovingEntity entity) {
+        if (view != null) {
+            view.onEntityRemoved(entity);
+        }
+    }
+
     /*
      * Met en mode contrôlé un alien au hasard si aucun alien n'est déjà contrôlé.
      */
@@ -235,11 +277,12 @@ public class GameWorld {
         if (allFalse) {
             int randomIndex;
             do {
-                randomIndex = (int) (Math.random() * aliens.size());
+                randomIndex = random.nextInt(aliens.size());
             } while (aliens.get(randomIndex) == lastControlledAlien);
             Alien newControlledAlien = aliens.get(randomIndex);
             if (lastControlledAlien != null) {
                 lastControlledAlien.setSpeed(1);
+                walkers.sync(lastControlledAlien);
             }
             newControlledAlien.setControlled(true);
             newControlledAlien.setSpeed(4);
@@ -254,68 +297,75 @@ public class GameWorld {
         if (bobble.getKeyState().get(KeyCode.SPACE)) {
             double direction;
             double position;
-            long now = System.nanoTime();
             if (isDirection()) {
                 direction = 0;
-                position = bobble.getSprite().getWidth();
+                position = bobble.getWidth();
             } else {
                 direction = Math.PI;
-                position = -bobble.getSprite().getWidth() + 5;
+                position = -bobble.getWidth() + 5;
             }
-            if (now - lastProjectile >= GameConstants.PROJECTILES_COOLDOWN) {
-                Projectile newProjectile = new Projectile(
-                        bobble.getPosition().getX() + position,
-                        bobble.getPosition().getY() + bobble.getSprite().getHeight() / 2,
+            if (projectileReady) {
+                if (projectiles.fire(bobble.getPosition().getX() + position,
+                        bobble.getPosition().getY() + bobble.getHeight() / 2,
                         7.5,
-                        direction);
-                projectiles.add(newProjectile);
-                gameObjects.getChildren().add(newProjectile.getSprite());
-                lastProjectile = now;
+                        direction)) {
+                    projectileReady = false;
+                    timers.schedule(GameConstants.PROJECTILES_COOLDOWN_TICKS, () -> projectileReady = true);
+                }
             }
         }
     }
 
     /*
      * Met à jour les projectiles et les supprime s'ils sortent de l'écran ou s'ils rentrent en collision avec une entité.
+     * Chaque projectile est lancé comme un rayon sur le segment parcouru pendant le tick :
+     * seul le premier mur ou alien rencontré est touché, même à grande vitesse.
      */
     private void updateProjectiles() {
-        ArrayList<Projectile> garbageProjectiles = new ArrayList<>();
-        for (Projectile projectile : projectiles) {
-            projectile.update();
-            for (Block wall : walls) {
-                if (wall.collidesWith(projectile.getSprite())) {
-                    garbageProjectiles.add(projectile);
-                    gameObjects.getChildren().remove(projectile.getSprite());
+        double width = ProjectilePool.WIDTH;
+        double height = ProjectilePool.HEIGHT;
+        for (int i = 0; i < projectiles.size(); i++) {
+            double x = projectiles.getX(i);
+            double y = projectiles.getY(i);
+            double dx = projectiles.getDeltaX(i);
+            double dy = projectiles.getDeltaY(i);
+            // Premier mur touché le long du segment parcouru pendant le tick
+            double impact = grid.raycast(x, y, width, height, dx, dy);
+            // Premier alien touché avant ce mur
+            Alien target = null;
+            for (MovingEntity entity : broadPhase.query(Math.min(x, x + dx), Math.min(y, y + dy),
+                    width + Math.abs(dx), height + Math.abs(dy), nearbyEntities)) {
+                if (entity instanceof Alien monster && monster.isAlive()) {
+                    double time = AABB.sweep(x, y, width, height, dx, dy, monster.getPosition().getX(),
+                            monster.getPosition().getY(), monster.getWidth(), monster.getHeight());
+                    if (time < impact) {
+                        impact = time;
+                        target = monster;
+                    }
                 }
             }
-            for (Alien monster : aliens) {
-                if (monster.collidesWith(projectile.getSprite())) {
-                    monster.setHealth(monster.getHealth() - 1);
-                    garbageProjectiles.add(projectile);
-                    gameObjects.getChildren().remove(projectile.getSprite());
+            if (impact <= 1) {
+                projectiles.advance(i, impact);
+                if (target != null) {
+                    target.setHealth(target.getHealth() - 1);
+                }
+                projectiles.expire(i);
+            } else {
+                projectiles.advance(i, 1);
+                if (bobble.collidesWith(projectiles.getX(i), projectiles.getY(i), width, height)) {
+                    projectiles.expire(i);
                 }
             }
-            if (bobble.collidesWith(projectile.getSprite())) {
-                garbageProjectiles.add(projectile);
-                gameObjects.getChildren().remove(projectile.getSprite());
-            }
-
-
         }
-        projectiles.removeAll(garbageProjectiles);
-        projectiles.forEach(projectile -> {
-            if (!gameObjects.getChildren().contains(projectile.getSprite())) {
-                gameObjects.getChildren().add(projectile.getSprite());
-            }
-        });
+        projectiles.compact();
     }
 
     /*
      * Met à jour les survivants et les supprime s'ils rentrent en collision avec le bobble.
      */
     private void saveSurvivors() {
-        for (Survivor survivor : survivors) {
-            if (survivor.collidesWith(bobble.getSprite())) {
+        for (MovingEntity entity : entitiesAround(bobble)) {
+            if (entity instanceof Survivor survivor && survivor.collidesWith(bobble)) {
                 survivor.setHealth(0);
                 synchronized (score) {
                     score.setTotal(score.getTotal() + 1000);
@@ -329,8 +379,8 @@ public class GameWorld {
      * Vérifie les collisions entre le bobble et les aliens, et l'invincibilité du bobble.
      */
     private void alienCollision() {
-        for (Alien alien : aliens) {
-            if (bobble.collidesWith(alien.getSprite()) && alien.isAlive() && !bobble.isInvincible()) {
+        for (MovingEntity entity : entitiesAround(bobble)) {
+            if (entity instanceof Alien alien && bobble.collidesWith(alien) && alien.isAlive() && !bobble.isInvincible()) {
                 bobble.setHealth(bobble.getHealth() - 1);
                 synchronized (score) {
                     score.setTotal(score.getTotal() - 500);
@@ -343,27 +393,59 @@ public class GameWorld {
 
     /*
      * Met à jour les déplacements des entités.
+     * L'alien contrôlé par un joueur se déplace seul puis est rechargé dans le stockage ;
+     * les autres aliens et les survivants avancent ensemble par passes sur les tableaux.
+     * En mode caméra, ceux qui sont loin de la zone visible autour du bobble sont simulés moins souvent.
      */
     private void moveEntities() {
+        bobble.savePreviousPosition();
         bobble.move();
-        if (mode == Mode.CAMERA) {
-            camera.playerCam(bobble.getPosition().getX(), bobble.getPosition().getY(), pane.getWidth(), pane.getHeight());
-            camera.apply(gameObjects);
-        }
         for (Alien alien : aliens) {
-            if (!alien.isControlled()) {
-                alien.move();
-            } else {
+            if (alien.isControlled()) {
+                alien.savePreviousPosition();
                 alien.moveByPlayer();
+                walkers.sync(alien);
+            } else if (walkers.isControlled(alien)) {
+                walkers.sync(alien);
             }
         }
-        survivors.forEach(Survivor::move);
+        if (mode == Mode.CAMERA) {
+            double viewWidth = GameConstants.SCENE_WIDTH / GameConstants.CAMERA_ZOOM + 2 * GameConstants.LOD_MARGIN;
+            double viewHeight = GameConstants.SCENE_HEIGHT / GameConstants.CAMERA_ZOOM + 2 * GameConstants.LOD_MARGIN;
+            double centerX = bobble.getPosition().getX() + bobble.getWidth() / 2;
+            double centerY = bobble.getPosition().getY() + bobble.getHeight() / 2;
+            walkers.step(grid, centerX - viewWidth / 2, centerY - viewHeight / 2, viewWidth, viewHeight);
+        } else {
+            walkers.step(grid);
+        }
+    }
+
+    /*
+     * Reconstruit la phase large avec les positions des aliens et des survivants.
+     * Le bobble n'y est pas inséré : c'est lui qui interroge la table.
+     */
+    private void buildBroadPhase() {
+        broadPhase.clear();
+        for (int i = 0; i < walkers.size(); i++) {
+            broadPhase.insert(walkers.get(i), walkers.getX(i), walkers.getY(i), walkers.getWidth(i), walkers.getHeight(i));
+        }
+    }
+
+    /*
+     * Retourne les entités proches d'une entité, candidates à une collision.
+     */
+    private List<MovingEntity> entitiesAround(MovingEntity entity) {
+        return broadPhase.query(entity.getPosition().getX(), entity.getPosition().getY(), entity.getWidth(), entity.getHeight(), nearbyEntities);
     }
 
 
     public void update() {
+        tick++;
+        timers.advance();
+        grid.updateTrapdoors();
         spawnAliens();
         moveEntities();
+        buildBroadPhase();
         saveSurvivors();
         alienCollision();
         if (mode == Mode.WITHOUT_CAMERA) {
@@ -371,16 +453,26 @@ public class GameWorld {
         }
         throwProjectiles();
         checkLives();
-        checkInvulnerability();
+        removeDeadEntities();
+        nextLevel();
+        updateProjectiles();
+        announcePrefetchedLevel();
     }
 
+    /*
+     * Affiche l'état courant du monde si une vue est attachée.
+     */
     public void render() {
-        updateSprites();
-        nextLevel();
-        bobble.animeSprite();
-        aliens.forEach(Alien::animeSprite);
-        survivors.forEach(Survivor::animeSprite);
-        updateProjectiles();
+        render(1);
+    }
+
+    /*
+     * Affiche le monde interpolé entre le tick précédent et le tick courant (alpha entre 0 et 1).
+     */
+    public void render(double alpha) {
+        if (view != null) {
+            view.render(this, alpha);
+        }
     }
 
 
@@ -388,11 +480,9 @@ public class GameWorld {
      * Nettoie le niveau actuel et recharge un nouveau niveau avec les paramètres correspondants.
      */
     private void clearLevel() {
-        aliens.forEach(m -> gameObjects.getChildren().remove(m.getSprite()));
-        walls.forEach(w -> gameObjects.getChildren().remove(w.getTile()));
-        gameObjects.getChildren().remove(bobble.getSprite());
         survivors.clear();
         aliens.clear();
+        walkers.clear();
         walls.clear();
         gameFinished = false;
         gameOver = false;
@@ -406,6 +496,41 @@ public class GameWorld {
     }
 
 
+    /*
+     * Indique si une entité est hors de la zone visible par la caméra : elle n'a alors pas besoin d'être affichée.
+     */
+    public boolean isOffScreen(MovingEntity entity) {
+        return walkers.isOffScreen(entity);
+    }
+
+    /*
+     * Retourne les minuteurs de la partie, avancés d'un pas à chaque tick.
+     */
+    public TimerWheel getTimers() {
+        return timers;
+    }
+
+    /*
+     * Retourne la graine du générateur de la partie.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /*
+     * Retourne le nombre de ticks simulés depuis le début de la partie.
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /*
+     * Retourne l'index par colonne des trappes du niveau courant.
+     */
+    public TrapdoorIndex getTrapdoorIndex() {
+        return grid.getTrapdoorIndex();
+    }
+
     /*
      * Retourne la liste des murs.
      */
@@ -414,11 +539,28 @@ public class GameWorld {
     }
 
     /*
-     * Retourne la scène avec les éléments visuels.
+     * Retourne la liste des survivants.
+     */
+    public List<Survivor> getSurvivors() {
+        return survivors;
+    }
+
+    /*
+     * Retourne la réserve des projectiles en vol.
+     */
+    public ProjectilePool getProjectiles() {
+        return projectiles;
+    }
+
+    /*
+     * Attache une vue au monde et lui fait afficher le niveau courant.
      */
-    public Pane getScene() {
-        pane = new Pane(gameObjects);
-        return pane;
+    public void setView(GameView view) {
+        this.view = view;
+        prefetchAnnounced = false;
+        if (view != null) {
+            view.onLevelLoaded(this);
+        }
     }
 
     /*
@@ -1,18 +1,17 @@
 package com.bobble.spacebobble.core.entities;
 
 import com.bobble.spacebobble.config.GameConstants;
+import com.bobble.spacebobble.core.utilities.AnimationClip;
 import com.bobble.spacebobble.core.utilities.Position;
 import com.bobble.spacebobble.core.world.Block;
+import com.bobble.spacebobble.core.world.TileGrid;
 import com.bobble.spacebobble.core.world.Trapdoor;
-import com.bobble.spacebobble.gestion.ResourceManager;
 import javafx.scene.input.KeyCode;
-import javafx.scene.paint.ImagePattern;
-import javafx.scene.shape.Rectangle;
 
 import java.io.Serial;
 import java.io.Serializable;
-import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Classe représentant l'entité Alien dans le jeu.
@@ -22,11 +21,6 @@ public class Alien extends MovingEntity implements Serializable {
     @Serial
     private static final long serialVersionUID = 9197557623908493367L;
 
-    /**
-     * Générateur de nombres aléatoires pour la vitesse et la direction.
-     */
-    private final Random random = new Random();
-
     /**
      * Indique si l'Alien est contrôlé par le joueur.
      */
@@ -42,73 +36,59 @@ public class Alien extends MovingEntity implements Serializable {
      *
      * @param health   la santé initiale de l'Alien
      * @param position la position initiale de l'Alien
-     * @param walls    la liste des blocs du jeu
+     * @param grid     la grille des tuiles du niveau
+     */
+    public Alien(int health, Position position, TileGrid grid) {
+        this(health, position, grid, ThreadLocalRandom.current().nextBoolean());
+    }
+
+    /**
+     * Constructeur de la classe Alien avec une direction initiale donnée.
+     *
+     * @param health    la santé initiale de l'Alien
+     * @param position  la position initiale de l'Alien
+     * @param grid      la grille des tuiles du niveau
+     * @param direction la direction initiale (true pour gauche, false pour droite)
      */
-    public Alien(int health, Position position, List<Block> walls) {
-        super(health, position, walls);
+    private Alien(int health, Position position, TileGrid grid, boolean direction) {
+        super(health, position, grid);
         this.health = 5;
-        this.sprite = new Rectangle(30, 30);
-        this.sprite.setX(this.getPosition().getX());
-        this.sprite.setY(this.getPosition().getY());
         this.speed = 1;
-        randomizeDirection();
+        this.direction = direction;
     }
 
     /**
-     * Initialise la direction de l'Alien aléatoirement.
+     * Constructeur de la classe Alien avec une direction tirée d'un générateur donné,
+     * pour rejouer une partie à l'identique à partir de sa graine.
+     *
+     * @param health   la santé initiale de l'Alien
+     * @param position la position initiale de l'Alien
+     * @param grid     la grille des tuiles du niveau
+     * @param random   le générateur de nombres aléatoires du monde
      */
-    private void randomizeDirection() {
-        direction = random.nextBoolean();
+    public Alien(int health, Position position, TileGrid grid, Random random) {
+        this(health, position, grid, random.nextBoolean());
     }
 
     /**
-     * Déplace l'Alien en fonction de sa direction et des collisions avec les murs.
+     * La patrouille de l'Alien est avancée avec celles des autres entités par EntityStore.step,
+     * seule implémentation du déplacement des entités non contrôlées.
+     *
+     * @throws UnsupportedOperationException toujours
      */
     @Override
     public void move() {
-        Rectangle sprite = this.getSprite();
-        double newX = this.getPosition().getX();
-        double newY = this.getPosition().getY();
-
-        if (direction) {
-            newX -= this.getSpeed();
-        } else {
-            newX += this.getSpeed();
-        }
-
-        this.setVerticalVelocity(this.getVerticalVelocity() + GameConstants.GRAVITY);
-        newY += this.getVerticalVelocity();
-        for (Block wall : walls) {
-            if (wall.collidesWith(new Rectangle(newX, sprite.getY(), sprite.getWidth(), sprite.getHeight()))) {
-                if ((this.isMovingLeft() && wall.getY() == 0)) {
-                    flipDirection();
-                    newX = this.getPosition().getX();
-                } else if (this.isDirection() && wall.getY() < 1000) {
-                    flipDirection();
-                    newX = this.getPosition().getX();
-                }
-            }
-        }
-
-        for (Block wall : walls) {
-            if (wall.collidesWith(new Rectangle(sprite.getX(), newY, sprite.getWidth(), sprite.getHeight()))) {
-                if (this.getVerticalVelocity() > 0) {
-                    newY = (wall.getY() - sprite.getHeight());
-                    this.setOnGround(true);
-                } else {
-                    newY = wall.getY() + wall.getTile().getHeight();
-                }
-                this.setVerticalVelocity(0);
-            }
-        }
+        throw new UnsupportedOperationException("Les patrouilles sont avancées par EntityStore");
+    }
 
-        for (Block wall : walls) {
-            if (wall.collidesWith(new Rectangle(newX, sprite.getY(), sprite.getWidth(), sprite.getHeight()))) {
-                newX = this.getPosition().getX();
-            }
-        }
+    @Override
+    boolean isFacingLeft() {
+        return direction;
+    }
 
-        updatePosition(newX, newY);
+    @Override
+    void setFacingLeft(boolean left) {
+        direction = left;
     }
 
     /**
@@ -116,17 +96,33 @@ public class Alien extends MovingEntity implements Serializable {
      */
     @Override
     public void animeSprite() {
-        String imagePath;
+        Animation animation;
         if (keyState.get(KeyCode.LEFT) || direction) {
-            imagePath = this.isControlled() ? "/asset/sprites/leftCA.png" : "/asset/sprites/leftA.png";
+            animation = this.isControlled() ? Animation.LEFT_CONTROLLED : Animation.LEFT;
         } else if (keyState.get(KeyCode.RIGHT) || !direction) {
-            imagePath = this.isControlled() ? "/asset/sprites/rightCA.png" : "/asset/sprites/rightA.png";
+            animation = this.isControlled() ? Animation.RIGHT_CONTROLLED : Animation.RIGHT;
         } else {
             // Ne change pas l'image si aucune touche n'est pressée et la direction est indéfinie
             return;
         }
-        ImagePattern tile = ResourceManager.loadImage(imagePath);
-        this.getSprite().setFill(tile);
+        animator.play(animation.clip);
+        animator.apply(this.getSprite());
+    }
+
+    /**
+     * Etats d'animation de l'Alien.
+     */
+    private enum Animation {
+        LEFT("/asset/sprites/leftA.png"),
+        RIGHT("/asset/sprites/rightA.png"),
+        LEFT_CONTROLLED("/asset/sprites/leftCA.png"),
+        RIGHT_CONTROLLED("/asset/sprites/rightCA.png");
+
+        private final AnimationClip clip;
+
+        Animation(String path) {
+            this.clip = AnimationClip.still(path);
+        }
     }
 
 
@@ -134,9 +130,10 @@ public class Alien extends MovingEntity implements Serializable {
      * Déplace l'Alien en fonction des entrées du joueur.
      */
     public void moveByPlayer() {
-        double newX = this.getPosition().getX();
-        double newY = this.getPosition().getY();
-        Rectangle sprite = this.getSprite();
+        double x = this.getPosition().getX();
+        double y = this.getPosition().getY();
+        double newX = x;
+        double newY = y;
 
         if (keyState.get(KeyCode.UP) && this.getOnGround()) {
             this.setVerticalVelocity(GameConstants.JUMP_FORCE);
@@ -152,56 +149,30 @@ public class Alien extends MovingEntity implements Serializable {
         this.setVerticalVelocity(this.getVerticalVelocity() + GameConstants.GRAVITY);
         newY += this.getVerticalVelocity();
 
-        for (Block wall : walls) {
-            Rectangle spriteBounds = new Rectangle(sprite.getX(), newY, sprite.getWidth(), sprite.getHeight());
+        for (Block wall : wallsBetween(x, y, x, newY)) {
             if (wall instanceof Trapdoor && ((Trapdoor) wall).isOpened()) {
                 continue;
             }
-            if (wall.collidesWith(spriteBounds)) {
+            if (wall.collidesWith(x, newY, width, height)) {
                 if (this.getVerticalVelocity() > 0) {
-                    newY = (wall.getY() - sprite.getHeight());
+                    newY = (wall.getY() - height);
                     this.setOnGround(true);
                 } else {
-                    newY = wall.getY() + wall.getTile().getHeight() + 0.1;
+                    newY = wall.getY() + wall.getHeight() + 0.1;
                 }
                 this.setVerticalVelocity(0);
             }
         }
 
-        for (Block wall : walls) {
-            if (wall.collidesWith(new Rectangle(newX, sprite.getY(), sprite.getWidth(), sprite.getHeight()))) {
-                newX = this.getPosition().getX();
+        for (Block wall : wallsBetween(x, y, newX, y)) {
+            if (wall.collidesWith(newX, y, width, height)) {
+                newX = x;
             }
         }
 
         updatePosition(newX, newY);
     }
 
-    /**
-     * Vérifie si l'Alien se déplace vers la gauche.
-     *
-     * @return true si l'Alien se déplace vers la gauche, sinon false
-     */
-    private boolean isMovingLeft() {
-        return this.getSpeed() < 0;
-    }
-
-    /**
-     * Vérifie si l'Alien se déplace vers la droite.
-     *
-     * @return true si l'Alien se déplace vers la droite, sinon false
-     */
-    private boolean isDirection() {
-        return this.getSpeed() > 0;
-    }
-
-    /**
-     * Inverse la direction de l'Alien.
-     */
-    private void flipDirection() {
-        direction = !direction;
-    }
-
     /**
      * Vérifie si l'Alien est contrôlé par le joueur.
      *
@@ -1,18 +1,17 @@
 package com.bobble.spacebobble.core.entities;
 
 import com.bobble.spacebobble.config.GameConstants;
+import com.bobble.spacebobble.core.utilities.AnimationClip;
 import com.bobble.spacebobble.core.utilities.Position;
 import com.bobble.spacebobble.core.world.Block;
+import com.bobble.spacebobble.core.world.TileGrid;
 import com.bobble.spacebobble.core.world.Trapdoor;
-import com.bobble.spacebobble.gestion.ResourceManager;
 import javafx.scene.input.KeyCode;
 import javafx.scene.paint.Color;
-import javafx.scene.paint.ImagePattern;
 import javafx.scene.shape.Rectangle;
 
 import java.io.Serial;
 import java.io.Serializable;
-import java.util.List;
 
 /**
  * Classe représentant l'entité du joueur principal.
@@ -37,16 +36,18 @@ public class Bobble extends MovingEntity implements Serializable {
      *
      * @param health   la santé initiale du joueur
      * @param position la position initiale du joueur
-     * @param walls    la liste des blocs du jeu
+     * @param grid     la grille des tuiles du niveau
      */
-    public Bobble(int health, Position position, List<Block> walls) {
-        super(health, position, walls);
+    public Bobble(int health, Position position, TileGrid grid) {
+        super(health, position, grid);
         this.health = 3;
         this.speed = 3;
         this.invincible = false;
-        this.sprite = new Rectangle(30, 30, Color.WHITE);
-        this.sprite.setX(this.getPosition().getX());
-        this.sprite.setY(this.getPosition().getY());
+    }
+
+    @Override
+    protected Rectangle createSprite() {
+        return new Rectangle(30, 30, Color.WHITE);
     }
 
     /**
@@ -54,9 +55,10 @@ public class Bobble extends MovingEntity implements Serializable {
      */
     @Override
     public void move() {
-        double newX = this.getPosition().getX();
-        double newY = this.getPosition().getY();
-        Rectangle sprite = this.getSprite();
+        double x = this.getPosition().getX();
+        double y = this.getPosition().getY();
+        double newX = x;
+        double newY = y;
         if (keyState.get(KeyCode.Z) && this.getOnGround()) {
             this.setVerticalVelocity(GameConstants.JUMP_FORCE);
             this.setOnGround(false);
@@ -68,24 +70,23 @@ public class Bobble extends MovingEntity implements Serializable {
         }
         this.setVerticalVelocity(this.getVerticalVelocity() + GameConstants.GRAVITY);
         newY += this.getVerticalVelocity();
-        for (Block wall : walls) {
-            Rectangle spriteBounds = new Rectangle(sprite.getX(), newY, sprite.getWidth(), sprite.getHeight());
+        for (Block wall : wallsBetween(x, y, x, newY)) {
             if (wall instanceof Trapdoor && ((Trapdoor) wall).isOpened()) {
                 continue;
             }
-            if (wall.collidesWith(spriteBounds)) {
+            if (wall.collidesWith(x, newY, width, height)) {
                 if (this.getVerticalVelocity() > 0) {
-                    newY = (wall.getY() - sprite.getHeight());
+                    newY = (wall.getY() - height);
                     this.setOnGround(true);
                 } else {
-                    newY = wall.getY() + wall.getTile().getHeight() + 0.1;
+                    newY = wall.getY() + wall.getHeight() + 0.1;
                 }
                 this.setVerticalVelocity(0);
             }
         }
-        for (Block wall : walls) {
-            if (wall.collidesWith(new Rectangle(newX, sprite.getY(), sprite.getWidth(), sprite.getHeight()))) {
-                newX = this.getPosition().getX();
+        for (Block wall : wallsBetween(x, y, newX, y)) {
+            if (wall.collidesWith(newX, y, width, height)) {
+                newX = x;
             }
         }
         updatePosition(newX, newY);
@@ -96,26 +97,44 @@ public class Bobble extends MovingEntity implements Serializable {
      */
     @Override
     public void animeSprite() {
-        String imagePath;
-
+        Animation animation;
         if (this.isInvincible()) {
-            imagePath = "/asset/sprites/invi.png";
+            animation = Animation.INVINCIBLE;
         } else if (keyState.get(KeyCode.D)) {
-            imagePath = "/asset/sprites/right.png";
+            animation = Animation.RIGHT;
             direction = true;
         } else if (keyState.get(KeyCode.Q)) {
-            imagePath = "/asset/sprites/left.png";
+            animation = Animation.LEFT;
             direction = false;
         } else if (keyState.get(KeyCode.S)) {
-            imagePath = direction ? "/asset/sprites/downR.png" : "/asset/sprites/downL.png";
+            animation = direction ? Animation.DOWN_RIGHT : Animation.DOWN_LEFT;
         } else if (keyState.get(KeyCode.Z)) {
-            imagePath = "/asset/sprites/jump.png";
+            animation = Animation.JUMP;
         } else {
-            imagePath = direction ? "/asset/sprites/waitR.png" : "/asset/sprites/waitL.png";
+            animation = direction ? Animation.WAIT_RIGHT : Animation.WAIT_LEFT;
         }
+        animator.play(animation.clip);
+        animator.apply(this.getSprite());
+    }
 
-        ImagePattern tile = ResourceManager.loadImage(imagePath);
-        this.getSprite().setFill(tile);
+    /**
+     * Etats d'animation du joueur.
+     */
+    private enum Animation {
+        INVINCIBLE("/asset/sprites/invi.png"),
+        RIGHT("/asset/sprites/right.png"),
+        LEFT("/asset/sprites/left.png"),
+        DOWN_RIGHT("/asset/sprites/downR.png"),
+        DOWN_LEFT("/asset/sprites/downL.png"),
+        JUMP("/asset/sprites/jump.png"),
+        WAIT_RIGHT("/asset/sprites/waitR.png"),
+        WAIT_LEFT("/asset/sprites/waitL.png");
+
+        private final AnimationClip clip;
+
+        Animation(String path) {
+            this.clip = AnimationClip.still(path);
+        }
     }
 
 
@@ -0,0 +1,397 @@
+package com.bobble.spacebobble.core.entities;
+
+import com.bobble.spacebobble.config.GameConstants;
+import com.bobble.spacebobble.core.world.AABB;
+import com.bobble.spacebobble.core.world.Block;
+import com.bobble.spacebobble.core.world.TileGrid;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Stockage en tableaux (structure de tableaux) des entités qui patrouillent dans le niveau : aliens et survivants.
+ * Positions, vitesses et états sont rangés dans des tableaux primitifs contigus et mis à jour par passes
+ * successives (gravité, puis collisions avec les murs) ; les objets Alien et Survivor ne servent plus que
+ * de poignées pour l'affichage, les commandes et la santé, et reçoivent leur état à la fin de chaque tick.
+ * Les entités vivantes occupent les cases 0 à size - 1 : une suppression déplace la dernière entité dans la case libérée.
+ */
+public class EntityStore {
+
+    /**
+     * L'entité se déplace vers la gauche.
+     */
+    static final byte LEFT = 1;
+
+    /**
+     * L'entité est au sol.
+     */
+    static final byte ON_GROUND = 2;
+
+    /**
+     * L'entité est déplacée par un joueur et non par la passe de patrouille.
+     */
+    static final byte CONTROLLED = 4;
+
+    /**
+     * L'entité est hors de la zone visible : elle n'est simulée que tous les LOD_INTERVAL ticks et n'est pas affichée.
+     */
+    static final byte OFF_SCREEN = 8;
+
+    private double[] x = new double[32];
+    private double[] y = new double[32];
+    private double[] vx = new double[32];
+    private double[] vy = new double[32];
+    private double[] width = new double[32];
+    private double[] height = new double[32];
+    private byte[] flags = new byte[32];
+    /**
+     * Nombre de ticks simulés par entité ce tick (0 si elle ne bouge pas), chute maximale par pas
+     * et positions candidates calculées par l'intégrateur avant la résolution des collisions.
+     */
+    private double[] dt = new double[32];
+    private double[] fallLimit = new double[32];
+    private double[] newX = new double[32];
+    private double[] newY = new double[32];
+    private MovingEntity[] entities = new MovingEntity[32];
+    private int size = 0;
+
+    /**
+     * Numéro du tick courant, utilisé pour répartir les pas des entités hors de la zone visible.
+     */
+    private int tick = 0;
+
+    /**
+     * Liste réutilisée pour les murs proches d'une entité.
+     */
+    private final List<Block> nearby = new ArrayList<>();
+
+    /**
+     * Passe d'intégration groupée, SIMD si l'API Vector est disponible.
+     */
+    private final Integrator integrator = Integrator.create();
+
+    /**
+     * Ajoute une entité au stockage à partir de son état actuel.
+     *
+     * @param entity l'entité à ajouter
+     */
+    public void add(MovingEntity entity) {
+        if (size == entities.length) {
+            int capacity = size * 2;
+            x = Arrays.copyOf(x, capacity);
+            y = Arrays.copyOf(y, capacity);
+            vx = Arrays.copyOf(vx, capacity);
+            vy = Arrays.copyOf(vy, capacity);
+            width = Arrays.copyOf(width, capacity);
+            height = Arrays.copyOf(height, capacity);
+            flags = Arrays.copyOf(flags, capacity);
+            dt = Arrays.copyOf(dt, capacity);
+            fallLimit = Arrays.copyOf(fallLimit, capacity);
+            newX = Arrays.copyOf(newX, capacity);
+            newY = Arrays.copyOf(newY, capacity);
+            entities = Arrays.copyOf(entities, capacity);
+        }
+        int slot = size++;
+        entities[slot] = entity;
+        entity.slot = slot;
+        width[slot] = entity.getWidth();
+        height[slot] = entity.getHeight();
+        sync(entity);
+    }
+
+    /**
+     * Retire une entité du stockage en déplaçant la dernière entité dans sa case.
+     *
+     * @param entity l'entité à retirer
+     */
+    public void remove(MovingEntity entity) {
+        int slot = entity.slot;
+        if (slot < 0 || slot >= size || entities[slot] != entity) {
+            return;
+        }
+        int last = --size;
+        if (slot != last) {
+            x[slot] = x[last];
+            y[slot] = y[last];
+            vx[slot] = vx[last];
+            vy[slot] = vy[last];
+            width[slot] = width[last];
+            height[slot] = height[last];
+            flags[slot] = flags[last];
+            dt[slot] = dt[last];
+            fallLimit[slot] = fallLimit[last];
+            entities[slot] = entities[last];
+            entities[slot].slot = slot;
+        }
+        entities[last] = null;
+        entity.slot = -1;
+    }
+
+    /**
+     * Vide le stockage (changement de niveau).
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            entities[i].slot = -1;
+            entities[i] = null;
+        }
+        size = 0;
+    }
+
+    /**
+     * Recharge l'état d'une entité depuis son objet, après une modification extérieure
+     * (déplacement par un joueur, changement de vitesse ou de contrôle).
+     *
+     * @param entity l'entité à recharger
+     */
+    public void sync(MovingEntity entity) {
+        int slot = entity.slot;
+        if (slot < 0) {
+            return;
+        }
+        boolean left = entity.isFacingLeft();
+        x[slot] = entity.getPosition().getX();
+        y[slot] = entity.getPosition().getY();
+        vx[slot] = left ? -entity.getSpeed() : entity.getSpeed();
+        vy[slot] = entity.getVerticalVelocity();
+        byte state = 0;
+        if (left) {
+            state |= LEFT;
+        }
+        if (Boolean.TRUE.equals(entity.getOnGround())) {
+            state |= ON_GROUND;
+        }
+        if (entity instanceof Alien alien && alien.isControlled()) {
+            state |= CONTROLLED;
+        }
+        flags[slot] = state;
+    }
+
+    /**
+     * Indique si l'entité est marquée comme contrôlée par un joueur dans le stockage.
+     *
+     * @param entity l'entité
+     * @return true si la passe de patrouille ignore l'entité
+     */
+    public boolean isControlled(MovingEntity entity) {
+        return (flags[entity.slot] & CONTROLLED) != 0;
+    }
+
+    /**
+     * Indique si l'entité est hors de la zone visible au dernier tick, et donc ni simulée à chaque tick ni affichée.
+     *
+     * @param entity l'entité
+     * @return true si l'entité est hors de la zone visible
+     */
+    public boolean isOffScreen(MovingEntity entity) {
+        return entity.slot >= 0 && (flags[entity.slot] & OFF_SCREEN) != 0;
+    }
+
+    /**
+     * Avance d'un tick toutes les entités non contrôlées : passe de gravité, passe de déplacement
+     * avec collisions contre les murs, puis recopie de l'état dans les objets.
+     *
+     * @param grid la grille des tuiles du niveau
+     */
+    public void step(TileGrid grid) {
+        tick++;
+        for (int i = 0; i < size; i++) {
+            flags[i] &= ~OFF_SCREEN;
+            dt[i] = (flags[i] & CONTROLLED) == 0 ? 1 : 0;
+            fallLimit[i] = Double.POSITIVE_INFINITY;
+        }
+        integrate(grid);
+    }
+
+    /**
+     * Avance d'un tick les entités non contrôlées, avec un niveau de détail dépendant de la zone visible :
+     * les entités qui la recouvrent sont simulées à chaque tick, les autres tous les LOD_INTERVAL ticks
+     * seulement, d'un pas équivalent à LOD_INTERVAL ticks dont la chute est limitée à une case
+     * afin de ne pas traverser un sol. Les pas des entités éloignées sont répartis
+     * sur les ticks pour lisser le coût.
+     *
+     * @param grid       la grille des tuiles du niveau
+     * @param viewX      la position x de la zone visible, marge comprise
+     * @param viewY      la position y de la zone visible, marge comprise
+     * @param viewWidth  la largeur de la zone visible
+     * @param viewHeight la hauteur de la zone visible
+     */
+    public void step(TileGrid grid, double viewX, double viewY, double viewWidth, double viewHeight) {
+        tick++;
+        for (int i = 0; i < size; i++) {
+            if ((flags[i] & CONTROLLED) != 0) {
+                dt[i] = 0;
+                fallLimit[i] = Double.POSITIVE_INFINITY;
+            } else if (AABB.intersects(x[i], y[i], width[i], height[i], viewX, viewY, viewWidth, viewHeight)) {
+                flags[i] &= ~OFF_SCREEN;
+                dt[i] = 1;
+                fallLimit[i] = Double.POSITIVE_INFINITY;
+            } else {
+                flags[i] |= OFF_SCREEN;
+                dt[i] = (tick + i) % GameConstants.LOD_INTERVAL == 0 ? GameConstants.LOD_INTERVAL : 0;
+                fallLimit[i] = GameConstants.SIZE_CASE;
+            }
+        }
+        integrate(grid);
+    }
+
+    /**
+     * Enchaîne les passes sur les entités à simuler ce tick.
+     *
+     * @param grid la grille des tuiles du niveau
+     */
+    private void integrate(TileGrid grid) {
+        integrator.integrate(size, dt, x, y, vx, vy, fallLimit, newX, newY);
+        if (size >= GameConstants.PARALLEL_THRESHOLD) {
+            ForkJoinPool.commonPool().invoke(new PatrolTask(grid, 0, size));
+        } else {
+            patrol(grid, 0, size, nearby);
+        }
+        writeBack();
+    }
+
+    /**
+     * Résout les collisions des entités des cases from à to - 1.
+     *
+     * @param grid   la grille des tuiles du niveau
+     * @param from   la première case
+     * @param to     la case suivant la dernière
+     * @param nearby la liste de travail pour les murs proches
+     */
+    private void patrol(TileGrid grid, int from, int to, List<Block> nearby) {
+        for (int i = from; i < to; i++) {
+            if (dt[i] > 0) {
+                patrol(i, grid, nearby);
+            }
+        }
+    }
+
+    /**
+     * Tâche de résolution des collisions sur une plage de cases, découpée en deux tant qu'elle est grande.
+     * Chaque entité ne lit que la grille et n'écrit que dans sa propre case : le résultat ne dépend pas
+     * du découpage, et la recopie dans les objets se fait ensuite dans l'ordre des cases sur le thread du jeu.
+     */
+    private class PatrolTask extends RecursiveAction {
+        private final TileGrid grid;
+        private final int from;
+        private final int to;
+
+        PatrolTask(TileGrid grid, int from, int to) {
+            this.grid = grid;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= GameConstants.PARALLEL_CHUNK) {
+                patrol(grid, from, to, new ArrayList<>());
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new PatrolTask(grid, from, middle), new PatrolTask(grid, middle, to));
+            }
+        }
+    }
+
+    /**
+     * Résout les collisions d'une entité entre sa position et sa position candidate :
+     * demi-tour contre un mur, atterrissage sur le sol ou arrêt sous un plafond.
+     * L'entité n'est au sol que si un sol l'arrête pendant ce pas.
+     *
+     * @param i      la case de l'entité
+     * @param grid   la grille des tuiles du niveau
+     * @param nearby la liste de travail pour les murs proches
+     */
+    private void patrol(int i, TileGrid grid, List<Block> nearby) {
+        double w = width[i];
+        double h = height[i];
+        double oldX = x[i];
+        double oldY = y[i];
+        double newX = this.newX[i];
+        double newY = this.newY[i];
+        flags[i] &= ~ON_GROUND;
+
+        for (Block wall : grid.query(Math.min(oldX, newX), oldY, Math.abs(newX - oldX) + w, h, nearby)) {
+            if (wall.collidesWith(newX, oldY, w, h)) {
+                newX = oldX;
+            }
+        }
+        if (newX == oldX && vx[i] != 0) {
+            vx[i] = -vx[i];
+            flags[i] ^= LEFT;
+        }
+
+        for (Block wall : grid.query(oldX, Math.min(oldY, newY), w, Math.abs(newY - oldY) + h, nearby)) {
+            if (wall.collidesWith(oldX, newY, w, h)) {
+                if (vy[i] > 0) {
+                    newY = wall.getY() - h;
+                    flags[i] |= ON_GROUND;
+                } else {
+                    newY = wall.getY() + wall.getHeight();
+                }
+                vy[i] = 0;
+            }
+        }
+
+        x[i] = newX;
+        y[i] = newY;
+    }
+
+    /**
+     * Recopie l'état des entités non contrôlées dans leurs objets, pour l'affichage et les commandes.
+     * La position précédente est enregistrée à chaque tick, même pour une entité éloignée qui n'avance pas :
+     * elle vaut alors la position courante et l'interpolation ne rejoue pas un ancien pas.
+     */
+    private void writeBack() {
+        for (int i = 0; i < size; i++) {
+            MovingEntity entity = entities[i];
+            if ((flags[i] & CONTROLLED) == 0) {
+                entity.savePreviousPosition();
+            }
+            if (dt[i] > 0) {
+                entity.updatePosition(x[i], y[i]);
+                entity.setVerticalVelocity(vy[i]);
+                entity.setOnGround((flags[i] & ON_GROUND) != 0);
+                entity.setFacingLeft((flags[i] & LEFT) != 0);
+            }
+        }
+    }
+
+    /**
+     * Retourne le nombre d'entités du stockage.
+     *
+     * @return le nombre d'entités
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Retourne l'entité d'une case.
+     *
+     * @param i la case
+     * @return l'entité
+     */
+    public MovingEntity get(int i) {
+        return entities[i];
+    }
+
+    public double getX(int i) {
+        return x[i];
+    }
+
+    public double getY(int i) {
+        return y[i];
+    }
+
+    public double getWidth(int i) {
+        return width[i];
+    }
+
+    public double getHeight(int i) {
+        return height[i];
+    }
+}
@@ -0,0 +1,50 @@
+package com.bobble.spacebobble.core.entities;
+
+import java.util.Optional;
+
+/**
+ * Passe d'intégration groupée de l'EntityStore : ajoute la gravité à la vitesse verticale puis calcule
+ * les positions candidates de toutes les entités, avant la résolution des collisions contre les murs.
+ * Deux implémentations donnent le même résultat : une boucle scalaire, et une version SIMD utilisée
+ * lorsque le module jdk.incubator.vector est chargé (profil Maven simd).
+ */
+interface Integrator {
+
+    /**
+     * Intègre les count premières entités.
+     *
+     * @param count     le nombre d'entités
+     * @param dt        le nombre de ticks simulés par entité (0 pour ne pas la déplacer)
+     * @param x         les positions x
+     * @param y         les positions y
+     * @param vx        les vitesses horizontales
+     * @param vy        les vitesses verticales, mises à jour
+     * @param fallLimit la chute maximale par pas de chaque entité
+     * @param newX      les positions x candidates, calculées
+     * @param newY      les positions y candidates, calculées
+     */
+    void integrate(int count, double[] dt, double[] x, double[] y, double[] vx, double[] vy,
+                   double[] fallLimit, double[] newX, double[] newY);
+
+    /**
+     * Choisit la version SIMD si le module de l'API Vector a été ajouté au lancement (profil Maven simd),
+     * la version scalaire sinon. La version SIMD est chargée par réflexion : elle n'est compilée qu'avec
+     * le profil simd, et le module du jeu ne lit le module incubateur que s'il est présent.
+     *
+     * @return l'intégrateur à utiliser
+     */
+    static Integrator create() {
+        Optional<Module> vector = ModuleLayer.boot().findModule("jdk.incubator.vector");
+        if (vector.isPresent()) {
+            try {
+                Integrator.class.getModule().addReads(vector.get());
+                return (Integrator) Class.forName("com.bobble.spacebobble.core.entities.VectorIntegrator")
+                        .getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // L'API Vector a été demandée mais le jeu a été compilé sans le profil simd
+                System.out.println("API Vector indisponible, intégration scalaire : " + e);
+            }
+        }
+        return new ScalarIntegrator();
+    }
+}
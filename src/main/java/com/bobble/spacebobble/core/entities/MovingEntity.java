@@ -1,12 +1,16 @@
 package com.bobble.spacebobble.core.entities;
 
+import com.bobble.spacebobble.core.utilities.Animator;
 import com.bobble.spacebobble.core.utilities.Position;
+import com.bobble.spacebobble.core.world.AABB;
 import com.bobble.spacebobble.core.world.Block;
+import com.bobble.spacebobble.core.world.TileGrid;
 import javafx.scene.input.KeyCode;
 import javafx.scene.shape.Rectangle;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -34,19 +38,46 @@ public abstract class MovingEntity implements Serializable {
     protected double speed;
 
     /**
-     * Sprite représentant l'entité.
+     * Sprite représentant l'entité, créé au premier appel à getSprite() : un monde sans affichage n'en crée aucun.
      */
     protected Rectangle sprite;
 
+    /**
+     * Animation du sprite : son remplissage n'est modifié que lorsque l'image affichée change.
+     */
+    protected final transient Animator animator = new Animator();
+
+    /**
+     * Dimensions de la boîte de collision de l'entité.
+     */
+    protected double width = 30;
+    protected double height = 30;
+
     /**
      * Santé de l'entité.
      */
     protected int health;
 
     /**
-     * Liste des blocs du jeu.
+     * Grille des tuiles du niveau, utilisée pour les collisions avec les murs.
+     */
+    protected TileGrid grid;
+
+    /**
+     * Liste réutilisée pour les blocs proches de l'entité, évite une allocation par requête.
      */
-    protected List<Block> walls;
+    private final List<Block> nearby = new ArrayList<>();
+
+    /**
+     * Position de l'entité au tick précédent, utilisée pour interpoler l'affichage.
+     */
+    private double previousX;
+    private double previousY;
+
+    /**
+     * Case de l'entité dans un EntityStore, -1 si elle n'y est pas rangée.
+     */
+    transient int slot = -1;
 
     /**
      * Vitesse verticale de l'entité.
@@ -63,13 +94,15 @@ public abstract class MovingEntity implements Serializable {
      *
      * @param health   la santé initiale de l'entité
      * @param position la position initiale de l'entité
-     * @param walls    la liste des blocs du jeu
+     * @param grid     la grille des tuiles du niveau
      */
-    public MovingEntity(int health, Position position, List<Block> walls) {
+    public MovingEntity(int health, Position position, TileGrid grid) {
         this.position = position;
         this.health = health;
-        this.walls = walls;
+        this.grid = grid;
         this.verticalVelocity = 0;
+        this.previousX = position.getX();
+        this.previousY = position.getY();
         initializeKeyState();
     }
 
@@ -83,14 +116,28 @@ public abstract class MovingEntity implements Serializable {
     }
 
     /**
-     * Retourne le sprite de l'entité.
+     * Retourne le sprite de l'entité, en le créant à sa position au premier appel.
      *
      * @return le sprite de l'entité
      */
     public Rectangle getSprite() {
+        if (sprite == null) {
+            sprite = createSprite();
+            sprite.setX(position.getX());
+            sprite.setY(position.getY());
+        }
         return sprite;
     }
 
+    /**
+     * Crée le sprite de l'entité, de la taille de sa boîte de collision.
+     *
+     * @return le sprite de l'entité
+     */
+    protected Rectangle createSprite() {
+        return new Rectangle(width, height);
+    }
+
     /**
      * Retourne la santé de l'entité.
      *
@@ -119,7 +166,7 @@ public abstract class MovingEntity implements Serializable {
     }
 
     /**
-     * Définit la position de l'entité.
+     * Définit la position de l'entité (téléportation : l'affichage n'est pas interpolé depuis l'ancienne position).
      *
      * @param x la coordonnée x de la nouvelle position
      * @param y la coordonnée y de la nouvelle position
@@ -127,6 +174,7 @@ public abstract class MovingEntity implements Serializable {
     public void setPosition(double x, double y) {
         this.position.setX(x);
         this.position.setY(y);
+        savePreviousPosition();
     }
 
     /**
@@ -192,6 +240,23 @@ public abstract class MovingEntity implements Serializable {
         return this.health > 0;
     }
 
+    /**
+     * Indique si l'entité se dirige vers la gauche, pour les entités qui patrouillent.
+     *
+     * @return true si l'entité se dirige vers la gauche
+     */
+    boolean isFacingLeft() {
+        return false;
+    }
+
+    /**
+     * Définit la direction d'une entité qui patrouille, depuis l'EntityStore.
+     *
+     * @param left true pour la gauche, false pour la droite
+     */
+    void setFacingLeft(boolean left) {
+    }
+
     /**
      * Méthode abstraite pour déplacer l'entité.
      */
@@ -200,21 +265,95 @@ public abstract class MovingEntity implements Serializable {
     public abstract void animeSprite();
 
     /**
-     * Vérifie si l'entité entre en collision avec un autre rectangle.
+     * Retourne la largeur de la boîte de collision de l'entité.
      *
-     * @param other le rectangle avec lequel vérifier la collision
+     * @return la largeur de l'entité
+     */
+    public double getWidth() {
+        return width;
+    }
+
+    /**
+     * Retourne la hauteur de la boîte de collision de l'entité.
+     *
+     * @return la hauteur de l'entité
+     */
+    public double getHeight() {
+        return height;
+    }
+
+    /**
+     * Retourne la boîte englobante de l'entité à sa position actuelle.
+     *
+     * @return la boîte englobante de l'entité
+     */
+    public AABB getBounds() {
+        return new AABB(position.getX(), position.getY(), width, height);
+    }
+
+    /**
+     * Vérifie si l'entité entre en collision avec un rectangle.
+     *
+     * @param x      la coordonnée x du rectangle
+     * @param y      la coordonnée y du rectangle
+     * @param width  la largeur du rectangle
+     * @param height la hauteur du rectangle
      * @return true si il y a une collision, sinon false
      */
-    public boolean collidesWith(Rectangle other) {
-        return sprite.getBoundsInParent().intersects(other.getBoundsInParent());
+    public boolean collidesWith(double x, double y, double width, double height) {
+        return AABB.intersects(position.getX(), position.getY(), this.width, this.height, x, y, width, height);
+    }
+
+    /**
+     * Vérifie si l'entité entre en collision avec une autre entité.
+     *
+     * @param other l'entité avec laquelle vérifier la collision
+     * @return true si il y a une collision, sinon false
+     */
+    public boolean collidesWith(MovingEntity other) {
+        return collidesWith(other.position.getX(), other.position.getY(), other.width, other.height);
+    }
+
+    /**
+     * Renvoie les murs dont les cases recouvrent l'entité entre deux positions (x0, y0) et (x1, y1).
+     * La liste renvoyée est réutilisée à chaque appel.
+     *
+     * @param x0 la coordonnée x de départ
+     * @param y0 la coordonnée y de départ
+     * @param x1 la coordonnée x d'arrivée
+     * @param y1 la coordonnée y d'arrivée
+     * @return les murs proches de l'entité
+     */
+    protected List<Block> wallsBetween(double x0, double y0, double x1, double y1) {
+        double minX = Math.min(x0, x1);
+        double minY = Math.min(y0, y1);
+        return grid.query(minX, minY, Math.max(x0, x1) - minX + width, Math.max(y0, y1) - minY + height, nearby);
+    }
+
+    /**
+     * Mémorise la position actuelle comme position du tick précédent, avant un nouveau pas de simulation.
+     */
+    public void savePreviousPosition() {
+        this.previousX = position.getX();
+        this.previousY = position.getY();
     }
 
     /**
      * Met à jour la position du sprite avec la position actuelle de l'entité.
      */
     public void updateSprite() {
-        this.sprite.setX(this.getPosition().getX());
-        this.sprite.setY(this.getPosition().getY());
+        updateSprite(1);
+    }
+
+    /**
+     * Met à jour la position du sprite en interpolant entre la position du tick précédent et la position actuelle.
+     *
+     * @param alpha le facteur d'interpolation, 0 pour la position précédente et 1 pour la position actuelle
+     */
+    public void updateSprite(double alpha) {
+        Rectangle sprite = getSprite();
+        sprite.setX(previousX + (position.getX() - previousX) * alpha);
+        sprite.setY(previousY + (position.getY() - previousY) * alpha);
     }
 
     /**
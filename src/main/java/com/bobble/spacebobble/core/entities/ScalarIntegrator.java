@@ -0,0 +1,20 @@
+package com.bobble.spacebobble.core.entities;
+
+import com.bobble.spacebobble.config.GameConstants;
+
+/**
+ * Intégration groupée par une boucle scalaire sur les tableaux de l'EntityStore.
+ */
+class ScalarIntegrator implements Integrator {
+
+    @Override
+    public void integrate(int count, double[] dt, double[] x, double[] y, double[] vx, double[] vy,
+                          double[] fallLimit, double[] newX, double[] newY) {
+        for (int i = 0; i < count; i++) {
+            double step = dt[i];
+            vy[i] += GameConstants.GRAVITY * step;
+            newX[i] = x[i] + vx[i] * step;
+            newY[i] = y[i] + Math.min(vy[i] * step, fallLimit[i]);
+        }
+    }
+}
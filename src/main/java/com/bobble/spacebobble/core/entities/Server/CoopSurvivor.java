@@ -3,16 +3,15 @@ package com.bobble.spacebobble.core.entities.Server;
 
 import com.bobble.spacebobble.config.GameConstants;
 import com.bobble.spacebobble.core.entities.MovingEntity;
+import com.bobble.spacebobble.core.utilities.AnimationClip;
 import com.bobble.spacebobble.core.utilities.Position;
 import com.bobble.spacebobble.core.world.Block;
-import com.bobble.spacebobble.gestion.ResourceManager;
+import com.bobble.spacebobble.core.world.TileGrid;
 import javafx.scene.paint.Color;
-import javafx.scene.paint.ImagePattern;
 import javafx.scene.shape.Rectangle;
 
 import java.io.Serial;
 import java.io.Serializable;
-import java.util.List;
 
 /**
  * Classe d'un survivant pour le mode Coop.
@@ -24,20 +23,25 @@ public class CoopSurvivor extends MovingEntity implements Serializable {
     private boolean isSaved;
 
     /* La variable Health correspond à L'ID pour cette classe */
-    public CoopSurvivor(int health, Position position, List<Block> walls, boolean direction) {
-        super(health, position, walls);
-        this.sprite = new Rectangle(30, 30, Color.GREEN);
+    public CoopSurvivor(int health, Position position, TileGrid grid, boolean direction) {
+        super(health, position, grid);
         this.speed = 0.3;
         this.direction = direction;
         this.isSaved = false;
     }
 
+    @Override
+    protected Rectangle createSprite() {
+        return new Rectangle(30, 30, Color.GREEN);
+    }
+
 
     @Override
     public void move() {
-        Rectangle sprite = this.getSprite();
-        double newX = this.getPosition().getX();
-        double newY = this.getPosition().getY();
+        double x = this.getPosition().getX();
+        double y = this.getPosition().getY();
+        double newX = x;
+        double newY = y;
         this.setVerticalVelocity(this.getVerticalVelocity() + GameConstants.GRAVITY);
         newY += this.getVerticalVelocity();
         if (direction) {
@@ -46,33 +50,33 @@ public class CoopSurvivor extends MovingEntity implements Serializable {
             newX += this.getSpeed();
         }
 
-        for (Block wall : walls) {
-            if (wall.collidesWith(new Rectangle(newX, sprite.getY(), sprite.getWidth(), sprite.getHeight()))) {
+        for (Block wall : wallsBetween(x, y, newX, y)) {
+            if (wall.collidesWith(newX, y, width, height)) {
                 if ((this.isMovingLeft() && wall.getY() == 0)) {
                     flipDirection();
-                    newX = this.getPosition().getX();
+                    newX = x;
                 } else if (this.isMovingRight() && wall.getY() < 1000) {
                     flipDirection();
-                    newX = this.getPosition().getX();
+                    newX = x;
                 }
             }
         }
 
-        for (Block wall : walls) {
-            if (wall.collidesWith(new Rectangle(sprite.getX(), newY, sprite.getWidth(), sprite.getHeight()))) {
+        for (Block wall : wallsBetween(x, y, x, newY)) {
+            if (wall.collidesWith(x, newY, width, height)) {
                 if (this.getVerticalVelocity() > 0) {
-                    newY = (wall.getY() - sprite.getHeight());
+                    newY = (wall.getY() - height);
                     this.setOnGround(true);
                 } else {
-                    newY = wall.getY() + wall.getTile().getHeight();
+                    newY = wall.getY() + wall.getHeight();
                 }
                 this.setVerticalVelocity(0);
             }
         }
 
-        for (Block wall : walls) {
-            if (wall.collidesWith(new Rectangle(newX, sprite.getY(), sprite.getWidth(), sprite.getHeight()))) {
-                newX = this.getPosition().getX();
+        for (Block wall : wallsBetween(x, y, newX, y)) {
+            if (wall.collidesWith(newX, y, width, height)) {
+                newX = x;
             }
 
         }
@@ -101,17 +105,21 @@ public class CoopSurvivor extends MovingEntity implements Serializable {
 
     @Override
     public void animeSprite() {
-        ImagePattern tile;
-        if (direction) {
-            String leftImagePath = "/asset/sprites/survivorL.png";
-            tile = ResourceManager.loadImage(leftImagePath);
-            this.getSprite().setFill(tile);
+        animator.play(direction ? Animation.LEFT.clip : Animation.RIGHT.clip);
+        animator.apply(this.getSprite());
+    }
 
-        } else {
-            String rightImagePath = "/asset/sprites/survivorR.png";
-            tile = ResourceManager.loadImage(rightImagePath);
-            this.getSprite().setFill(tile);
-        }
+    /**
+     * Etats d'animation du survivant.
+     */
+    private enum Animation {
+        LEFT("/asset/sprites/survivorL.png"),
+        RIGHT("/asset/sprites/survivorR.png");
 
+        private final AnimationClip clip;
+
+        Animation(String path) {
+            this.clip = AnimationClip.still(path);
+        }
     }
 }
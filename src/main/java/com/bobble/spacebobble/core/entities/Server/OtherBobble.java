@@ -1,10 +1,10 @@
 package com.bobble.spacebobble.core.entities.Server;
 
+import com.bobble.spacebobble.core.utilities.AnimationClip;
+import com.bobble.spacebobble.core.utilities.Animator;
 import com.bobble.spacebobble.core.utilities.Position;
-import com.bobble.spacebobble.gestion.ResourceManager;
 import com.bobble.spacebobble.network.Packet.BobblePacket;
 import javafx.scene.paint.Color;
-import javafx.scene.paint.ImagePattern;
 import javafx.scene.shape.Rectangle;
 
 import java.io.Serial;
@@ -17,8 +17,16 @@ public class OtherBobble implements Serializable {
     @Serial
     private static final long serialVersionUID = 6403409415087491446L;
 
+    private static final AnimationClip RIGHT = AnimationClip.still("/asset/sprites/rightOP.png");
+    private static final AnimationClip LEFT = AnimationClip.still("/asset/sprites/leftOP.png");
+
     private final Rectangle sprite;
 
+    /**
+     * Animation du sprite : son remplissage n'est modifié que lorsque l'image affichée change.
+     */
+    private final transient Animator animator = new Animator();
+
     private Position position;
 
     private int health;
@@ -52,8 +60,6 @@ public class OtherBobble implements Serializable {
     public void updatePositionAndLives(int x, int y, int health) {
         if (x != position.getX()) {
             lastX = position.getX();
-            ImagePattern tile = ResourceManager.loadImage("/asset/sprites/waitOPR.png");
-            this.sprite.setFill(tile);
         }
         this.position = new Position(x, y);
         this.health = health;
@@ -73,17 +79,15 @@ public class OtherBobble implements Serializable {
      * Anime le sprite du Bobble en fonction de sa direction de déplacement.
      */
     private void animeSprite() {
-        String imagePath;
         if (position.getX() > lastX) {
-            imagePath = "/asset/sprites/rightOP.png";
+            animator.play(RIGHT);
         } else if (position.getX() < lastX) {
-            imagePath = "/asset/sprites/leftOP.png";
+            animator.play(LEFT);
         } else {
             // Ne change pas l'image si la position est la même
             return;
         }
-        ImagePattern tile = ResourceManager.loadImage(imagePath);
-        this.sprite.setFill(tile);
+        animator.apply(sprite);
     }
 
 
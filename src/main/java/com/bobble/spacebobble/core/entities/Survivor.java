@@ -1,16 +1,13 @@
 package com.bobble.spacebobble.core.entities;
 
-import com.bobble.spacebobble.config.GameConstants;
+import com.bobble.spacebobble.core.utilities.AnimationClip;
 import com.bobble.spacebobble.core.utilities.Position;
-import com.bobble.spacebobble.core.world.Block;
-import com.bobble.spacebobble.gestion.ResourceManager;
-import javafx.scene.paint.ImagePattern;
-import javafx.scene.shape.Rectangle;
+import com.bobble.spacebobble.core.world.TileGrid;
 
 import java.io.Serial;
 import java.io.Serializable;
-import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Classe représentant l'entité Survivor dans le jeu.
@@ -20,11 +17,6 @@ public class Survivor extends MovingEntity implements Serializable {
     @Serial
     private static final long serialVersionUID = 1695752909181586890L;
 
-    /**
-     * Générateur de nombres aléatoires pour la direction.
-     */
-    private final Random random = new Random();
-
     /**
      * Direction de l'entité (true pour gauche, false pour droite).
      */
@@ -35,73 +27,58 @@ public class Survivor extends MovingEntity implements Serializable {
      *
      * @param health   la santé initiale de l'entité
      * @param position la position initiale de l'entité
-     * @param walls    la liste des blocs du jeu
+     * @param grid     la grille des tuiles du niveau
      */
-    public Survivor(int health, Position position, List<Block> walls) {
-        super(health, position, walls);
+    public Survivor(int health, Position position, TileGrid grid) {
+        this(health, position, grid, ThreadLocalRandom.current().nextBoolean());
+    }
+
+    /**
+     * Constructeur de la classe Survivor avec une direction initiale donnée.
+     *
+     * @param health    la santé initiale de l'entité
+     * @param position  la position initiale de l'entité
+     * @param grid      la grille des tuiles du niveau
+     * @param direction la direction initiale (true pour gauche, false pour droite)
+     */
+    private Survivor(int health, Position position, TileGrid grid, boolean direction) {
+        super(health, position, grid);
         this.health = 1;
-        this.sprite = new Rectangle(30, 30);
-        this.sprite.setX(this.getPosition().getX());
-        this.sprite.setY(this.getPosition().getY());
         this.speed = 0.3;
-        randomizeDirection();
+        this.direction = direction;
     }
 
     /**
-     * Initialise la direction de l'entité aléatoirement.
+     * Constructeur de la classe Survivor avec une direction tirée d'un générateur donné,
+     * pour rejouer une partie à l'identique à partir de sa graine.
+     *
+     * @param health   la santé initiale de l'entité
+     * @param position la position initiale de l'entité
+     * @param grid     la grille des tuiles du niveau
+     * @param random   le générateur de nombres aléatoires du monde
      */
-    private void randomizeDirection() {
-        direction = random.nextBoolean();
+    public Survivor(int health, Position position, TileGrid grid, Random random) {
+        this(health, position, grid, random.nextBoolean());
     }
 
     /**
-     * Déplace l'entité en fonction de sa direction et des collisions avec les murs.
+     * La patrouille de l'entité est avancée avec celles des autres entités par EntityStore.step,
+     * seule implémentation du déplacement des entités non contrôlées.
+     *
+     * @throws UnsupportedOperationException toujours
      */
     public void move() {
-        Rectangle sprite = this.getSprite();
-        double newX = this.getPosition().getX();
-        double newY = this.getPosition().getY();
-
-        if (direction) {
-            newX -= this.getSpeed();
-        } else {
-            newX += this.getSpeed();
-        }
-
-        this.setVerticalVelocity(this.getVerticalVelocity() + GameConstants.GRAVITY);
-        newY += this.getVerticalVelocity();
-
-        for (Block wall : walls) {
-            if (wall.collidesWith(new Rectangle(newX, sprite.getY(), sprite.getWidth(), sprite.getHeight()))) {
-                if ((this.isDirectionL() && wall.getY() == 0)) {
-                    flipDirection();
-                    newX = this.getPosition().getX();
-                } else if (this.isDirectionR() && wall.getY() < 1000) {
-                    flipDirection();
-                    newX = this.getPosition().getX();
-                }
-            }
-        }
-
-        for (Block wall : walls) {
-            if (wall.collidesWith(new Rectangle(sprite.getX(), newY, sprite.getWidth(), sprite.getHeight()))) {
-                if (this.getVerticalVelocity() > 0) {
-                    newY = (wall.getY() - sprite.getHeight());
-                    this.setOnGround(true);
-                } else {
-                    newY = wall.getY() + wall.getTile().getHeight();
-                }
-                this.setVerticalVelocity(0);
-            }
-        }
+        throw new UnsupportedOperationException("Les patrouilles sont avancées par EntityStore");
+    }
 
-        for (Block wall : walls) {
-            if (wall.collidesWith(new Rectangle(newX, sprite.getY(), sprite.getWidth(), sprite.getHeight()))) {
-                newX = this.getPosition().getX();
-            }
-        }
+    @Override
+    boolean isFacingLeft() {
+        return direction;
+    }
 
-        updatePosition(newX, newY);
+    @Override
+    void setFacingLeft(boolean left) {
+        direction = left;
     }
 
     /**
@@ -109,39 +86,21 @@ public class Survivor extends MovingEntity implements Serializable {
      */
     @Override
     public void animeSprite() {
-        String imagePath;
-        if (direction) {
-            imagePath = "/asset/sprites/survivorL.png";
-        } else {
-            imagePath = "/asset/sprites/survivorR.png";
-        }
-        ImagePattern tile = ResourceManager.loadImage(imagePath);
-        this.getSprite().setFill(tile);
+        animator.play(direction ? Animation.LEFT.clip : Animation.RIGHT.clip);
+        animator.apply(this.getSprite());
     }
 
-
     /**
-     * Vérifie si la direction de l'entité est vers la gauche.
-     *
-     * @return true si la direction est vers la gauche, sinon false
+     * Etats d'animation du survivant.
      */
-    private boolean isDirectionL() {
-        return this.getSpeed() < 0;
-    }
+    private enum Animation {
+        LEFT("/asset/sprites/survivorL.png"),
+        RIGHT("/asset/sprites/survivorR.png");
 
-    /**
-     * Vérifie si la direction de l'entité est vers la droite.
-     *
-     * @return true si la direction est vers la droite, sinon false
-     */
-    private boolean isDirectionR() {
-        return this.getSpeed() > 0;
-    }
+        private final AnimationClip clip;
 
-    /**
-     * Inverse la direction de l'entité.
-     */
-    private void flipDirection() {
-        direction = !direction;
+        Animation(String path) {
+            this.clip = AnimationClip.still(path);
+        }
     }
 }
@@ -0,0 +1,37 @@
+package com.bobble.spacebobble.core.utilities;
+
+import com.bobble.spacebobble.gestion.ResourceManager;
+import javafx.scene.paint.ImagePattern;
+
+/**
+ * Clip d'animation d'un état visuel d'une entité. Les images fournies sont fixes : un clip est une seule image.
+ * Le clip ne garde que le chemin de l'image : elle est demandée au cache de ResourceManager
+ * lorsqu'elle est affichée, ce qui permet de déclarer les clips en constantes sans toolkit JavaFX
+ * et laisse le cache libérer les images les moins utilisées.
+ */
+public class AnimationClip {
+    private final String path;
+
+    private AnimationClip(String path) {
+        this.path = path;
+    }
+
+    /**
+     * Crée un clip d'une seule image.
+     *
+     * @param path le chemin de l'image
+     * @return le clip
+     */
+    public static AnimationClip still(String path) {
+        return new AnimationClip(path);
+    }
+
+    /**
+     * Retourne le motif de l'image du clip.
+     *
+     * @return le motif de l'image, tel que mis en cache par ResourceManager
+     */
+    public ImagePattern getImage() {
+        return ResourceManager.loadImage(path);
+    }
+}
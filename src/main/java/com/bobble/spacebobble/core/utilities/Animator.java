@@ -0,0 +1,43 @@
+package com.bobble.spacebobble.core.utilities;
+
+import javafx.scene.paint.ImagePattern;
+import javafx.scene.shape.Shape;
+
+/**
+ * Etat d'animation d'une entité : le clip joué et l'image affichée sur le sprite.
+ * Le remplissage du sprite n'est modifié que lorsque l'image affichée change, ce qui évite d'invalider
+ * le noeud, et donc de le redessiner, à chaque image quand l'état visuel de l'entité est stable.
+ */
+public class Animator {
+    private AnimationClip clip;
+
+    /**
+     * Image actuellement affichée sur le sprite.
+     */
+    private ImagePattern shown;
+
+    /**
+     * Joue un clip. Rejouer le clip en cours ne change rien.
+     *
+     * @param clip le clip à jouer
+     */
+    public void play(AnimationClip clip) {
+        this.clip = clip;
+    }
+
+    /**
+     * Affiche l'image du clip en cours sur le sprite si elle a changé.
+     *
+     * @param sprite le sprite de l'entité
+     */
+    public void apply(Shape sprite) {
+        if (clip == null) {
+            return;
+        }
+        ImagePattern image = clip.getImage();
+        if (image != shown) {
+            sprite.setFill(image);
+            shown = image;
+        }
+    }
+}
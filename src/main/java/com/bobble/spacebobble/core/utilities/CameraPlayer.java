@@ -1,12 +1,15 @@
 package com.bobble.spacebobble.core.utilities;
 
+import com.bobble.spacebobble.config.GameConstants;
+import com.bobble.spacebobble.core.world.AABB;
 import javafx.scene.Group;
+import javafx.scene.canvas.GraphicsContext;
 
 /**
  * Classe gérant la caméra du joueur pour suivre et zoomer sur le joueur dans la scène.
  */
 public class CameraPlayer {
-    private final double zoom = 1.5;
+    private final double zoom = GameConstants.CAMERA_ZOOM;
     private double x;
     private double y;
 
@@ -45,4 +48,32 @@ public class CameraPlayer {
         gameObjects.setScaleX(zoom);
         gameObjects.setScaleY(zoom);
     }
+
+    /**
+     * Applique les transformations de la caméra à un contexte graphique. JavaFX zoome un groupe autour
+     * du centre de ses bornes : le zoom est donc appliqué autour d'un pivot pour obtenir le même cadrage.
+     *
+     * @param graphics le contexte graphique à transformer
+     * @param pivotX   la coordonnée x du centre du zoom
+     * @param pivotY   la coordonnée y du centre du zoom
+     */
+    public void apply(GraphicsContext graphics, double pivotX, double pivotY) {
+        graphics.translate(pivotX - x, pivotY - y);
+        graphics.scale(zoom, zoom);
+        graphics.translate(-pivotX, -pivotY);
+    }
+
+    /**
+     * Calcule la zone du monde visible à l'écran, en inversant la transformation de la caméra
+     * appliquée autour du pivot donné.
+     *
+     * @param pivotX      la coordonnée x du centre du zoom
+     * @param pivotY      la coordonnée y du centre du zoom
+     * @param sceneWidth  la largeur de la scène
+     * @param sceneHeight la hauteur de la scène
+     * @return la zone visible, en coordonnées du monde
+     */
+    public AABB getVisibleArea(double pivotX, double pivotY, double sceneWidth, double sceneHeight) {
+        return new AABB((x - pivotX) / zoom + pivotX, (y - pivotY) / zoom + pivotY, sceneWidth / zoom, sceneHeight / zoom);
+    }
 }
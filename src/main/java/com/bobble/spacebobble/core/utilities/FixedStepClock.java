@@ -0,0 +1,62 @@
+package com.bobble.spacebobble.core.utilities;
+
+/**
+ * Horloge à pas fixe pour la boucle de jeu.
+ * Le temps écoulé entre deux images est accumulé puis consommé par pas de durée constante :
+ * la simulation avance à la même vitesse quelle que soit la fréquence de l'écran,
+ * et le reste de l'accumulateur sert à interpoler l'affichage entre les deux derniers états.
+ */
+public class FixedStepClock {
+
+    private final long step;
+    private final int maxSteps;
+
+    /**
+     * Temps de la dernière image en nanosecondes, -1 avant la première image.
+     */
+    private long previous = -1;
+
+    /**
+     * Temps accumulé non encore simulé en nanosecondes.
+     */
+    private long accumulator = 0;
+
+    /**
+     * Constructeur de la classe FixedStepClock.
+     *
+     * @param step     la durée d'un pas de simulation en nanosecondes
+     * @param maxSteps le nombre maximal de pas rattrapés en une image, pour éviter l'emballement après un gel
+     */
+    public FixedStepClock(long step, int maxSteps) {
+        this.step = step;
+        this.maxSteps = maxSteps;
+    }
+
+    /**
+     * Ajoute le temps écoulé depuis la dernière image et renvoie le nombre de pas de simulation à exécuter.
+     * Au-delà de maxSteps, le retard est abandonné plutôt que rattrapé.
+     *
+     * @param now le temps de l'image courante en nanosecondes
+     * @return le nombre de pas à exécuter
+     */
+    public int advance(long now) {
+        if (previous < 0) {
+            previous = now;
+        }
+        accumulator += now - previous;
+        previous = now;
+        int steps = (int) Math.min(accumulator / step, maxSteps);
+        accumulator = Math.min(accumulator - steps * step, step);
+        return steps;
+    }
+
+    /**
+     * Renvoie la fraction du pas suivant déjà écoulée, entre 0 et 1,
+     * à utiliser pour interpoler l'affichage entre l'état précédent et l'état courant.
+     *
+     * @return le facteur d'interpolation
+     */
+    public double getAlpha() {
+        return (double) accumulator / step;
+    }
+}
@@ -0,0 +1,146 @@
+package com.bobble.spacebobble.core.utilities;
+
+/**
+ * Roue de minuteurs hiérarchique avancée par le tick du jeu.
+ * Chaque niveau compte 64 cases, chaque case du niveau n couvre 64^n ticks : un minuteur est rangé
+ * dans le niveau le plus fin qui contient son échéance, puis redescend d'un niveau à chaque fois
+ * que la roue inférieure fait un tour. Planifier et annuler un minuteur se font en temps constant,
+ * et le temps ne s'écoule que lorsque le jeu avance : une partie en pause met aussi ses minuteurs en pause.
+ * La roue n'est pas synchronisée, elle doit être utilisée depuis le thread du jeu.
+ */
+public class TimerWheel {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+
+    /**
+     * Délai maximal d'un minuteur en ticks, les délais plus longs sont plafonnés.
+     */
+    public static final long MAX_DELAY = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    /**
+     * Cases de la roue : chaque case est une liste doublement chaînée circulaire dont la tête est une sentinelle.
+     */
+    private final Timer[][] slots = new Timer[LEVELS][SLOTS];
+
+    /**
+     * Tick courant de la roue.
+     */
+    private long tick = 0;
+
+    /**
+     * Constructeur de la classe TimerWheel.
+     */
+    public TimerWheel() {
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                Timer sentinel = new Timer(null, 0);
+                sentinel.previous = sentinel;
+                sentinel.next = sentinel;
+                slots[level][slot] = sentinel;
+            }
+        }
+    }
+
+    /**
+     * Planifie une action après un nombre de ticks.
+     *
+     * @param delay  le délai en ticks, au moins 1
+     * @param action l'action à exécuter au tick d'échéance
+     * @return le minuteur, qui permet d'annuler l'action
+     */
+    public Timer schedule(long delay, Runnable action) {
+        Timer timer = new Timer(action, tick + Math.max(1, Math.min(delay, MAX_DELAY)));
+        insert(timer);
+        return timer;
+    }
+
+    /**
+     * Avance la roue d'un tick : redescend les minuteurs des niveaux supérieurs dont la case arrive à échéance,
+     * puis exécute les actions arrivées à échéance.
+     */
+    public void advance() {
+        tick++;
+        for (int level = 1; level < LEVELS; level++) {
+            if ((tick & ((1L << (SLOT_BITS * level)) - 1)) != 0) {
+                break;
+            }
+            Timer sentinel = slots[level][(int) (tick >>> (SLOT_BITS * level)) & MASK];
+            while (sentinel.next != sentinel) {
+                Timer timer = sentinel.next;
+                timer.cancel();
+                insert(timer);
+            }
+        }
+        // Une action ne peut pas replanifier dans la case courante (délai d'au moins 1 tick) : la case se vide toujours
+        Timer sentinel = slots[0][(int) tick & MASK];
+        while (sentinel.next != sentinel) {
+            Timer timer = sentinel.next;
+            timer.cancel();
+            timer.action.run();
+        }
+    }
+
+    /**
+     * Range un minuteur dans le niveau le plus fin qui contient son échéance.
+     */
+    private void insert(Timer timer) {
+        long delta = timer.deadline - tick;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        Timer sentinel = slots[level][(int) (timer.deadline >>> (SLOT_BITS * level)) & MASK];
+        timer.previous = sentinel.previous;
+        timer.next = sentinel;
+        sentinel.previous.next = timer;
+        sentinel.previous = timer;
+    }
+
+    /**
+     * Retourne le tick courant de la roue.
+     *
+     * @return le nombre de ticks écoulés
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Minuteur planifié dans une roue, maillon de la liste de sa case.
+     */
+    public static final class Timer {
+        private final Runnable action;
+        private final long deadline;
+        private Timer previous;
+        private Timer next;
+
+        private Timer(Runnable action, long deadline) {
+            this.action = action;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Annule le minuteur s'il n'a pas encore été exécuté.
+         */
+        public void cancel() {
+            if (previous != null) {
+                previous.next = next;
+                next.previous = previous;
+                previous = null;
+                next = null;
+            }
+        }
+
+        /**
+         * Indique si le minuteur attend encore son échéance.
+         *
+         * @return true si l'action n'a été ni exécutée ni annulée
+         */
+        public boolean isPending() {
+            return previous != null;
+        }
+    }
+}
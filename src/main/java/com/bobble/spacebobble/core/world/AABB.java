@@ -0,0 +1,109 @@
+package com.bobble.spacebobble.core.world;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Boîte englobante alignée sur les axes, calculée uniquement à partir de coordonnées.
+ * Les tests de collision n'utilisent plus les bornes des noeuds JavaFX, qui ne servent qu'à l'affichage.
+ * Comme pour les bornes JavaFX, deux boîtes qui se touchent sont considérées en collision.
+ */
+public record AABB(double x, double y, double width, double height) implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 3014628770253846161L;
+
+    /**
+     * Vérifie si deux rectangles se chevauchent (bords inclus).
+     *
+     * @param ax position x du premier rectangle
+     * @param ay position y du premier rectangle
+     * @param aw largeur du premier rectangle
+     * @param ah hauteur du premier rectangle
+     * @param bx position x du second rectangle
+     * @param by position y du second rectangle
+     * @param bw largeur du second rectangle
+     * @param bh hauteur du second rectangle
+     * @return true si les rectangles se chevauchent, false sinon
+     */
+    public static boolean intersects(double ax, double ay, double aw, double ah,
+                                     double bx, double by, double bw, double bh) {
+        return ax + aw >= bx && ay + ah >= by && ax <= bx + bw && ay <= by + bh;
+    }
+
+    /**
+     * Calcule l'instant du premier contact d'un rectangle en mouvement avec un rectangle immobile
+     * (méthode des intervalles par axe). Le déplacement est paramétré de 0 (départ) à 1 (arrivée).
+     *
+     * @param ax position x de départ du rectangle mobile
+     * @param ay position y de départ du rectangle mobile
+     * @param aw largeur du rectangle mobile
+     * @param ah hauteur du rectangle mobile
+     * @param dx déplacement horizontal
+     * @param dy déplacement vertical
+     * @param bx position x du rectangle immobile
+     * @param by position y du rectangle immobile
+     * @param bw largeur du rectangle immobile
+     * @param bh hauteur du rectangle immobile
+     * @return l'instant du contact entre 0 et 1, ou Double.POSITIVE_INFINITY s'il n'y a pas de contact
+     */
+    public static double sweep(double ax, double ay, double aw, double ah, double dx, double dy,
+                               double bx, double by, double bw, double bh) {
+        double enterX;
+        double exitX;
+        if (dx == 0) {
+            if (ax + aw < bx || ax > bx + bw) {
+                return Double.POSITIVE_INFINITY;
+            }
+            enterX = Double.NEGATIVE_INFINITY;
+            exitX = Double.POSITIVE_INFINITY;
+        } else {
+            double t1 = (bx - (ax + aw)) / dx;
+            double t2 = (bx + bw - ax) / dx;
+            enterX = Math.min(t1, t2);
+            exitX = Math.max(t1, t2);
+        }
+        double enterY;
+        double exitY;
+        if (dy == 0) {
+            if (ay + ah < by || ay > by + bh) {
+                return Double.POSITIVE_INFINITY;
+            }
+            enterY = Double.NEGATIVE_INFINITY;
+            exitY = Double.POSITIVE_INFINITY;
+        } else {
+            double t1 = (by - (ay + ah)) / dy;
+            double t2 = (by + bh - ay) / dy;
+            enterY = Math.min(t1, t2);
+            exitY = Math.max(t1, t2);
+        }
+        double enter = Math.max(enterX, enterY);
+        double exit = Math.min(exitX, exitY);
+        if (enter > exit || enter > 1 || exit < 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return Math.max(enter, 0);
+    }
+
+    /**
+     * Vérifie si cette boîte chevauche une autre boîte.
+     *
+     * @param other l'autre boîte
+     * @return true si les boîtes se chevauchent, false sinon
+     */
+    public boolean intersects(AABB other) {
+        return intersects(x, y, width, height, other.x, other.y, other.width, other.height);
+    }
+
+    /**
+     * Vérifie si cette boîte chevauche le rectangle donné.
+     *
+     * @param x      position x du rectangle
+     * @param y      position y du rectangle
+     * @param width  largeur du rectangle
+     * @param height hauteur du rectangle
+     * @return true si les rectangles se chevauchent, false sinon
+     */
+    public boolean intersects(double x, double y, double width, double height) {
+        return intersects(this.x, this.y, this.width, this.height, x, y, width, height);
+    }
+}
@@ -2,7 +2,6 @@ package com.bobble.spacebobble.core.world;
 
 import com.bobble.spacebobble.config.GameConstants;
 import javafx.scene.shape.Rectangle;
-import javafx.scene.shape.Shape;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -14,8 +13,38 @@ public abstract class Block implements Serializable {
     @Serial
     private static final long serialVersionUID = -4260167455575606492L;
 
+    /**
+     * Tuile affichée du bloc, créée au premier appel à getTile() : un monde sans affichage n'en crée aucune.
+     */
     protected Rectangle tile;
 
+    /**
+     * Colonne et ligne du bloc dans la grille du niveau.
+     */
+    private final int column;
+    private final int row;
+
+    /**
+     * Coin supérieur gauche du bloc en pixels, utilisé par les collisions.
+     */
+    private final double minX;
+    private final double minY;
+
+    /**
+     * Nombre de cases occupées horizontalement par le bloc.
+     */
+    protected int columnSpan = 1;
+
+    /**
+     * Nombre de cases occupées verticalement par le bloc.
+     */
+    protected int rowSpan = 1;
+
+    /**
+     * Dernier lancer de rayon de la grille ayant testé ce bloc (voir TileGrid.raycast).
+     */
+    transient int queryStamp;
+
     /**
      * Constructeur de la classe Block.
      *
@@ -23,19 +52,57 @@ public abstract class Block implements Serializable {
      * @param y La position y du bloc.
      */
     public Block(double x, double y) {
-        this.tile = new Rectangle(x * GameConstants.SIZE_CASE, y * GameConstants.SIZE_CASE,
-                GameConstants.SIZE_CASE, GameConstants.SIZE_CASE);
+        this.column = (int) x;
+        this.row = (int) y;
+        this.minX = x * GameConstants.SIZE_CASE;
+        this.minY = y * GameConstants.SIZE_CASE;
+    }
+
+    /**
+     * Constructeur d'un bloc sans tuile, couvrant plusieurs cases, qui ne sert qu'aux collisions.
+     *
+     * @param column     La colonne du coin supérieur gauche.
+     * @param row        La ligne du coin supérieur gauche.
+     * @param columnSpan Le nombre de colonnes couvertes.
+     * @param rowSpan    Le nombre de lignes couvertes.
+     */
+    protected Block(int column, int row, int columnSpan, int rowSpan) {
+        this.column = column;
+        this.row = row;
+        this.minX = column * GameConstants.SIZE_CASE;
+        this.minY = row * GameConstants.SIZE_CASE;
+        this.columnSpan = columnSpan;
+        this.rowSpan = rowSpan;
     }
 
     /**
-     * Renvoie le rectangle représentant le bloc.
+     * Renvoie le rectangle représentant le bloc, en le créant au premier appel.
      *
-     * @return Le rectangle représentant le bloc.
+     * @return Le rectangle représentant le bloc, ou null pour un bloc sans tuile.
      */
     public Rectangle getTile() {
+        if (tile == null) {
+            tile = createTile();
+        }
         return tile;
     }
 
+    /**
+     * Crée la tuile du bloc, à sa position et à sa taille.
+     *
+     * @return La tuile du bloc.
+     */
+    protected Rectangle createTile() {
+        return new Rectangle(minX, minY, getWidth(), getHeight());
+    }
+
+    /**
+     * Applique la texture du bloc à sa tuile. N'est appelée que par l'affichage,
+     * le chargement des images nécessitant le toolkit JavaFX.
+     */
+    public void applyTexture() {
+    }
+
     /**
      * Renvoie la taille du bloc.
      *
@@ -46,13 +113,94 @@ public abstract class Block implements Serializable {
     }
 
     /**
-     * Vérifie si le bloc entre en collision avec un autre objet.
+     * Renvoie la colonne du bloc dans la grille.
+     *
+     * @return La colonne du bloc.
+     */
+    public int getColumn() {
+        return column;
+    }
+
+    /**
+     * Renvoie la ligne du bloc dans la grille.
+     *
+     * @return La ligne du bloc.
+     */
+    public int getRow() {
+        return row;
+    }
+
+    /**
+     * Renvoie le nombre de cases occupées horizontalement par le bloc.
+     *
+     * @return Le nombre de cases occupées.
+     */
+    public int getColumnSpan() {
+        return columnSpan;
+    }
+
+    /**
+     * Renvoie le nombre de cases occupées verticalement par le bloc.
+     *
+     * @return Le nombre de cases occupées.
+     */
+    public int getRowSpan() {
+        return rowSpan;
+    }
+
+    /**
+     * Renvoie la largeur du bloc en pixels.
+     *
+     * @return La largeur du bloc.
+     */
+    public double getWidth() {
+        return columnSpan * GameConstants.SIZE_CASE;
+    }
+
+    /**
+     * Renvoie la hauteur du bloc en pixels.
+     *
+     * @return La hauteur du bloc.
+     */
+    public double getHeight() {
+        return rowSpan * GameConstants.SIZE_CASE;
+    }
+
+    /**
+     * Renvoie la boîte englobante du bloc.
+     *
+     * @return La boîte englobante du bloc.
+     */
+    public AABB getBounds() {
+        return new AABB(minX, minY, getWidth(), getHeight());
+    }
+
+    /**
+     * Vérifie si le bloc entre en collision avec un rectangle.
+     *
+     * @param x      La position x du rectangle.
+     * @param y      La position y du rectangle.
+     * @param width  La largeur du rectangle.
+     * @param height La hauteur du rectangle.
+     * @return true si le bloc entre en collision avec le rectangle, false sinon.
+     */
+    public boolean collidesWith(double x, double y, double width, double height) {
+        return AABB.intersects(minX, minY, getWidth(), getHeight(), x, y, width, height);
+    }
+
+    /**
+     * Calcule l'instant du premier contact d'un rectangle en mouvement avec le bloc.
      *
-     * @param other L'objet avec lequel le bloc peut entrer en collision.
-     * @return true si le bloc entre en collision avec l'objet, false sinon.
+     * @param x      La position x de départ du rectangle.
+     * @param y      La position y de départ du rectangle.
+     * @param width  La largeur du rectangle.
+     * @param height La hauteur du rectangle.
+     * @param dx     Le déplacement horizontal.
+     * @param dy     Le déplacement vertical.
+     * @return L'instant du contact entre 0 et 1, ou Double.POSITIVE_INFINITY s'il n'y a pas de contact.
      */
-    public boolean collidesWith(Shape other) {
-        return tile.getBoundsInParent().intersects(other.getBoundsInParent());
+    public double sweep(double x, double y, double width, double height, double dx, double dy) {
+        return AABB.sweep(x, y, width, height, dx, dy, minX, minY, getWidth(), getHeight());
     }
 
     /**
@@ -61,7 +209,7 @@ public abstract class Block implements Serializable {
      * @return La position y du bloc.
      */
     public double getY() {
-        return (int) this.tile.getY() - 0.1;
+        return (int) minY - 0.1;
     }
 
     /**
@@ -70,7 +218,7 @@ public abstract class Block implements Serializable {
      * @return La position x du bloc.
      */
     public double getX() {
-        return (int) this.tile.getX() - 0.1;
+        return (int) minX - 0.1;
     }
 
 }
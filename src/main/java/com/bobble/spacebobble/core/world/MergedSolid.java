@@ -0,0 +1,37 @@
+package com.bobble.spacebobble.core.world;
+
+import javafx.scene.shape.Rectangle;
+
+import java.io.Serial;
+
+/**
+ * Rectangle de collision regroupant plusieurs blocs pleins voisins.
+ * Il remplace ces blocs dans la grille des collisions ; les blocs Solid restent dans la liste des murs
+ * et gardent chacun leur tuile pour l'affichage.
+ */
+public class MergedSolid extends Block {
+    @Serial
+    private static final long serialVersionUID = 6353418829021508519L;
+
+    /**
+     * Constructeur de la classe MergedSolid.
+     *
+     * @param column     La colonne du coin supérieur gauche.
+     * @param row        La ligne du coin supérieur gauche.
+     * @param columnSpan Le nombre de colonnes couvertes.
+     * @param rowSpan    Le nombre de lignes couvertes.
+     */
+    public MergedSolid(int column, int row, int columnSpan, int rowSpan) {
+        super(column, row, columnSpan, rowSpan);
+    }
+
+    /**
+     * Le rectangle ne sert qu'aux collisions : il n'a pas de tuile.
+     *
+     * @return null
+     */
+    @Override
+    protected Rectangle createTile() {
+        return null;
+    }
+}
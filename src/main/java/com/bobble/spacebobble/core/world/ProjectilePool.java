@@ -0,0 +1,226 @@
+package com.bobble.spacebobble.core.world;
+
+/**
+ * Réserve de projectiles de capacité fixe.
+ * L'état des projectiles en vol est rangé dans des tableaux primitifs utilisés comme un tampon circulaire :
+ * un tir écrit à la suite du dernier projectile, et les projectiles détruits sont retirés par tassement
+ * en fin de tick. Chaque projectile porte aussi un identifiant de sprite, recyclé à sa destruction,
+ * qui permet à l'affichage de réutiliser toujours les mêmes noeuds. Tirer et détruire n'allouent rien.
+ */
+public class ProjectilePool {
+    /**
+     * Dimensions d'un projectile.
+     */
+    public static final double WIDTH = 10;
+    public static final double HEIGHT = 7;
+
+    private final int capacity;
+
+    /**
+     * Etat des projectiles, indexé par case du tampon circulaire.
+     */
+    private final double[] x;
+    private final double[] y;
+    private final double[] previousX;
+    private final double[] previousY;
+    private final double[] deltaX;
+    private final double[] deltaY;
+    private final int[] spriteId;
+    private final boolean[] expired;
+
+    /**
+     * Première case occupée du tampon et nombre de projectiles en vol.
+     */
+    private int head = 0;
+    private int count = 0;
+
+    /**
+     * Pile des identifiants de sprite libres.
+     */
+    private final int[] freeIds;
+    private int freeCount;
+
+    /**
+     * Constructeur de la réserve de projectiles.
+     *
+     * @param capacity Nombre maximal de projectiles en vol
+     */
+    public ProjectilePool(int capacity) {
+        this.capacity = capacity;
+        this.x = new double[capacity];
+        this.y = new double[capacity];
+        this.previousX = new double[capacity];
+        this.previousY = new double[capacity];
+        this.deltaX = new double[capacity];
+        this.deltaY = new double[capacity];
+        this.spriteId = new int[capacity];
+        this.expired = new boolean[capacity];
+        this.freeIds = new int[capacity];
+        clear();
+    }
+
+    /**
+     * Tire un projectile. Le déplacement par tick est calculé une seule fois à partir de la vitesse et de la direction,
+     * avec StrictMath pour obtenir le même résultat sur toutes les machines.
+     *
+     * @param x         Position initiale en abscisse
+     * @param y         Position initiale en ordonnée
+     * @param speed     Vitesse du projectile
+     * @param direction Direction du projectile en radians
+     * @return false si la réserve est pleine et que le tir est ignoré
+     */
+    public boolean fire(double x, double y, double speed, double direction) {
+        if (count == capacity) {
+            return false;
+        }
+        int slot = slot(count++);
+        this.x[slot] = x;
+        this.y[slot] = y;
+        this.previousX[slot] = x;
+        this.previousY[slot] = y;
+        this.deltaX[slot] = speed * StrictMath.cos(direction);
+        this.deltaY[slot] = speed * StrictMath.sin(direction);
+        this.spriteId[slot] = freeIds[--freeCount];
+        this.expired[slot] = false;
+        return true;
+    }
+
+    /**
+     * Avance le i-ème projectile d'une fraction de son déplacement par tick (jusqu'au point d'impact par exemple).
+     *
+     * @param i        Rang du projectile, de 0 (le plus ancien) à size() - 1
+     * @param fraction Fraction du déplacement, entre 0 et 1
+     */
+    public void advance(int i, double fraction) {
+        int slot = slot(i);
+        previousX[slot] = x[slot];
+        previousY[slot] = y[slot];
+        x[slot] += deltaX[slot] * fraction;
+        y[slot] += deltaY[slot] * fraction;
+    }
+
+    /**
+     * Marque le i-ème projectile comme détruit ; il est retiré au prochain appel à compact().
+     *
+     * @param i Rang du projectile
+     */
+    public void expire(int i) {
+        expired[slot(i)] = true;
+    }
+
+    /**
+     * Retire les projectiles détruits et libère leurs identifiants de sprite.
+     * Les plus anciens sont retirés en avançant le début du tampon, les autres en tassant
+     * les projectiles restants sans changer leur ordre.
+     */
+    public void compact() {
+        while (count > 0 && expired[head]) {
+            freeIds[freeCount++] = spriteId[head];
+            head = slot(1);
+            count--;
+        }
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            int from = slot(i);
+            if (expired[from]) {
+                freeIds[freeCount++] = spriteId[from];
+                continue;
+            }
+            if (kept != i) {
+                int to = slot(kept);
+                x[to] = x[from];
+                y[to] = y[from];
+                previousX[to] = previousX[from];
+                previousY[to] = previousY[from];
+                deltaX[to] = deltaX[from];
+                deltaY[to] = deltaY[from];
+                spriteId[to] = spriteId[from];
+                expired[to] = false;
+            }
+            kept++;
+        }
+        count = kept;
+        if (count == 0) {
+            head = 0;
+        }
+    }
+
+    /**
+     * Détruit tous les projectiles.
+     */
+    public void clear() {
+        head = 0;
+        count = 0;
+        freeCount = capacity;
+        for (int id = 0; id < capacity; id++) {
+            freeIds[id] = capacity - 1 - id;
+        }
+    }
+
+    private int slot(int i) {
+        int slot = head + i;
+        return slot >= capacity ? slot - capacity : slot;
+    }
+
+    /**
+     * Retourne le nombre de projectiles en vol.
+     *
+     * @return Nombre de projectiles
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Retourne le nombre maximal de projectiles en vol, qui est aussi le nombre d'identifiants de sprite.
+     *
+     * @return Capacité de la réserve
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public double getX(int i) {
+        return x[slot(i)];
+    }
+
+    public double getY(int i) {
+        return y[slot(i)];
+    }
+
+    public double getDeltaX(int i) {
+        return deltaX[slot(i)];
+    }
+
+    public double getDeltaY(int i) {
+        return deltaY[slot(i)];
+    }
+
+    public int getSpriteId(int i) {
+        return spriteId[slot(i)];
+    }
+
+    /**
+     * Retourne la position x du i-ème projectile interpolée entre le tick précédent et le tick courant.
+     *
+     * @param i     Rang du projectile
+     * @param alpha Facteur d'interpolation, 0 pour la position précédente et 1 pour la position actuelle
+     * @return Position x interpolée
+     */
+    public double getX(int i, double alpha) {
+        int slot = slot(i);
+        return previousX[slot] + (x[slot] - previousX[slot]) * alpha;
+    }
+
+    /**
+     * Retourne la position y du i-ème projectile interpolée entre le tick précédent et le tick courant.
+     *
+     * @param i     Rang du projectile
+     * @param alpha Facteur d'interpolation, 0 pour la position précédente et 1 pour la position actuelle
+     * @return Position y interpolée
+     */
+    public double getY(int i, double alpha) {
+        int slot = slot(i);
+        return previousY[slot] + (y[slot] - previousY[slot]) * alpha;
+    }
+}
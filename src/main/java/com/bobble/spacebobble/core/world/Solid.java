@@ -14,6 +14,10 @@ public class Solid extends Block implements Serializable {
 
     public Solid(double x, double y) {
         super(x, y);
+    }
+
+    @Override
+    public void applyTexture() {
         this.getTile().setFill(ResourceManager.loadImage("/asset/tile.png"));
     }
 }
@@ -0,0 +1,141 @@
+package com.bobble.spacebobble.core.world;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Table de hachage spatiale utilisée comme phase large pour les collisions entre objets mobiles.
+ * Elle est vidée et remplie à chaque tick ; une requête ne renvoie que les objets des cellules voisines,
+ * qui doivent ensuite être testés précisément (AABB).
+ *
+ * @param <T> le type des objets indexés
+ */
+public class SpatialHash<T> {
+    private static final int BUCKETS = 256;
+
+    private final double cellSize;
+
+    /**
+     * Première entrée de chaque seau, -1 si le seau est vide.
+     */
+    private final int[] heads = new int[BUCKETS];
+
+    /**
+     * Entrées chaînées : cellule, objet et entrée suivante du même seau.
+     */
+    private int[] next = new int[64];
+    private int[] cellX = new int[64];
+    private int[] cellY = new int[64];
+    private int[] itemIndex = new int[64];
+    private int entries = 0;
+
+    /**
+     * Objets insérés depuis le dernier vidage, et dernière requête les ayant renvoyés.
+     */
+    private Object[] items = new Object[32];
+    private int[] seen = new int[32];
+    private int itemCount = 0;
+    private int queryStamp = 0;
+
+    /**
+     * Constructeur de la classe SpatialHash.
+     *
+     * @param cellSize la taille d'une cellule en pixels, à choisir plus grande que les objets indexés
+     */
+    public SpatialHash(double cellSize) {
+        this.cellSize = cellSize;
+        Arrays.fill(heads, -1);
+    }
+
+    /**
+     * Vide la table sans libérer la mémoire, pour la remplir au tick suivant.
+     */
+    public void clear() {
+        Arrays.fill(heads, -1);
+        Arrays.fill(items, 0, itemCount, null);
+        entries = 0;
+        itemCount = 0;
+    }
+
+    /**
+     * Insère un objet dans toutes les cellules recouvertes par son rectangle.
+     *
+     * @param item   l'objet à insérer
+     * @param x      la position x de l'objet
+     * @param y      la position y de l'objet
+     * @param width  la largeur de l'objet
+     * @param height la hauteur de l'objet
+     */
+    public void insert(T item, double x, double y, double width, double height) {
+        if (itemCount == items.length) {
+            items = Arrays.copyOf(items, itemCount * 2);
+            seen = Arrays.copyOf(seen, itemCount * 2);
+        }
+        int index = itemCount++;
+        items[index] = item;
+        seen[index] = 0;
+        int maxX = toCell(x + width);
+        int maxY = toCell(y + height);
+        for (int cy = toCell(y); cy <= maxY; cy++) {
+            for (int cx = toCell(x); cx <= maxX; cx++) {
+                addEntry(cx, cy, index);
+            }
+        }
+    }
+
+    /**
+     * Remplit la liste avec les objets des cellules recouvertes par le rectangle donné.
+     * Chaque objet n'apparaît qu'une fois ; le test précis reste à faire par l'appelant.
+     *
+     * @param x      la position x du rectangle
+     * @param y      la position y du rectangle
+     * @param width  la largeur du rectangle
+     * @param height la hauteur du rectangle
+     * @param result la liste à remplir (vidée au préalable)
+     * @return la liste result
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> query(double x, double y, double width, double height, List<T> result) {
+        result.clear();
+        int stamp = ++queryStamp;
+        int maxX = toCell(x + width);
+        int maxY = toCell(y + height);
+        for (int cy = toCell(y); cy <= maxY; cy++) {
+            for (int cx = toCell(x); cx <= maxX; cx++) {
+                for (int e = heads[bucket(cx, cy)]; e != -1; e = next[e]) {
+                    int index = itemIndex[e];
+                    if (cellX[e] == cx && cellY[e] == cy && seen[index] != stamp) {
+                        seen[index] = stamp;
+                        result.add((T) items[index]);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private void addEntry(int cx, int cy, int index) {
+        if (entries == next.length) {
+            int capacity = entries * 2;
+            next = Arrays.copyOf(next, capacity);
+            cellX = Arrays.copyOf(cellX, capacity);
+            cellY = Arrays.copyOf(cellY, capacity);
+            itemIndex = Arrays.copyOf(itemIndex, capacity);
+        }
+        int bucket = bucket(cx, cy);
+        int e = entries++;
+        cellX[e] = cx;
+        cellY[e] = cy;
+        itemIndex[e] = index;
+        next[e] = heads[bucket];
+        heads[bucket] = e;
+    }
+
+    private int toCell(double coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    private static int bucket(int cx, int cy) {
+        return (cx * 73856093 ^ cy * 19349663) & (BUCKETS - 1);
+    }
+}
@@ -0,0 +1,283 @@
+package com.bobble.spacebobble.core.world;
+
+import com.bobble.spacebobble.config.GameConstants;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Grille dense des tuiles d'un niveau : chaque case référence le bloc qui l'occupe.
+ * Les collisions ne testent ainsi que les cases recouvertes par une entité,
+ * le coût dépend de la taille de l'entité et non plus de la taille du niveau.
+ */
+public class TileGrid implements Serializable {
+    @Serial
+    private static final long serialVersionUID = -5514032811206457290L;
+
+    private final int columns;
+    private final int rows;
+    private final Block[] cells;
+
+    /**
+     * Trappes du niveau, avancées à chaque tick par updateTrapdoors().
+     */
+    private final List<Trapdoor> trapdoors = new ArrayList<>();
+
+    /**
+     * Index des trappes par colonne, construit à la première demande et invalidé par l'ajout d'une trappe.
+     */
+    private transient TrapdoorIndex trapdoorIndex;
+
+    /**
+     * Compteur des lancers de rayon, utilisé pour ne tester qu'une seule fois un bloc couvrant plusieurs cases.
+     */
+    private int queryStamp = 0;
+
+    /**
+     * Constructeur de la classe TileGrid.
+     *
+     * @param columns le nombre de colonnes du niveau
+     * @param rows    le nombre de lignes du niveau
+     */
+    public TileGrid(int columns, int rows) {
+        this.columns = columns;
+        this.rows = rows;
+        this.cells = new Block[columns * rows];
+    }
+
+    /**
+     * Construit la grille des collisions d'un niveau à partir de ses blocs.
+     * Les blocs pleins voisins sont regroupés en rectangles (voir mergeSolids) ; les autres blocs sont ajoutés tels quels.
+     *
+     * @param blocks les blocs du niveau
+     * @return la grille contenant tous les blocs
+     */
+    public static TileGrid of(List<Block> blocks) {
+        int columns = 0;
+        int rows = 0;
+        for (Block block : blocks) {
+            columns = Math.max(columns, block.getColumn() + block.getColumnSpan());
+            rows = Math.max(rows, block.getRow() + block.getRowSpan());
+        }
+        TileGrid grid = new TileGrid(columns, rows);
+        boolean[] solid = new boolean[columns * rows];
+        for (Block block : blocks) {
+            if (block instanceof Solid) {
+                solid[block.getRow() * columns + block.getColumn()] = true;
+            } else {
+                grid.put(block);
+            }
+        }
+        grid.mergeSolids(solid);
+        return grid;
+    }
+
+    /**
+     * Regroupe les cases pleines en rectangles de façon gloutonne : en lisant le niveau ligne par ligne,
+     * chaque case pleine libre démarre un rectangle étendu d'abord vers la droite, puis vers le bas
+     * tant que la ligne suivante est pleine sur toute sa largeur. Les bords d'un niveau deviennent
+     * ainsi quelques rectangles au lieu de dizaines de blocs.
+     *
+     * @param solid les cases pleines, consommées par la fusion
+     */
+    private void mergeSolids(boolean[] solid) {
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < columns; col++) {
+                if (!solid[row * columns + col]) {
+                    continue;
+                }
+                int width = 1;
+                while (col + width < columns && solid[row * columns + col + width]) {
+                    width++;
+                }
+                int height = 1;
+                while (row + height < rows && isFull(solid, row + height, col, width)) {
+                    height++;
+                }
+                for (int r = row; r < row + height; r++) {
+                    for (int c = col; c < col + width; c++) {
+                        solid[r * columns + c] = false;
+                    }
+                }
+                put(new MergedSolid(col, row, width, height));
+            }
+        }
+    }
+
+    private boolean isFull(boolean[] solid, int row, int col, int width) {
+        for (int c = col; c < col + width; c++) {
+            if (!solid[row * columns + c]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Référence un bloc dans toutes les cases qu'il recouvre.
+     *
+     * @param block le bloc à ajouter
+     */
+    public void put(Block block) {
+        if (block instanceof Trapdoor trapdoor) {
+            trapdoors.add(trapdoor);
+            trapdoorIndex = null;
+        }
+        for (int row = block.getRow(); row < block.getRow() + block.getRowSpan(); row++) {
+            for (int col = block.getColumn(); col < block.getColumn() + block.getColumnSpan(); col++) {
+                if (isInside(col, row)) {
+                    cells[row * columns + col] = block;
+                }
+            }
+        }
+    }
+
+    /**
+     * Avance d'un tick l'état de toutes les trappes du niveau.
+     */
+    public void updateTrapdoors() {
+        for (Trapdoor trapdoor : trapdoors) {
+            trapdoor.update();
+        }
+    }
+
+    /**
+     * Renvoie les trappes du niveau.
+     *
+     * @return la liste des trappes
+     */
+    public List<Trapdoor> getTrapdoors() {
+        return trapdoors;
+    }
+
+    /**
+     * Renvoie l'index par colonne des trappes du niveau.
+     *
+     * @return l'index des trappes
+     */
+    public TrapdoorIndex getTrapdoorIndex() {
+        if (trapdoorIndex == null) {
+            trapdoorIndex = new TrapdoorIndex(columns, trapdoors);
+        }
+        return trapdoorIndex;
+    }
+
+    /**
+     * Renvoie le bloc occupant une case, ou null si la case est vide ou hors de la grille.
+     *
+     * @param col la colonne de la case
+     * @param row la ligne de la case
+     * @return le bloc de la case ou null
+     */
+    public Block get(int col, int row) {
+        return isInside(col, row) ? cells[row * columns + col] : null;
+    }
+
+    /**
+     * Remplit la liste avec les blocs dont les cases recouvrent le rectangle donné.
+     * Chaque bloc n'apparaît qu'une seule fois, dans l'ordre de lecture du niveau.
+     * Le bord du rectangle est inclus, comme pour les collisions JavaFX.
+     * Un bloc n'est ajouté que dans la première de ses cases recouverte par le rectangle, ce qui évite
+     * tout état partagé et permet d'appeler cette méthode depuis plusieurs threads.
+     *
+     * @param x      la position x du rectangle
+     * @param y      la position y du rectangle
+     * @param width  la largeur du rectangle
+     * @param height la hauteur du rectangle
+     * @param result la liste à remplir (vidée au préalable)
+     * @return la liste result
+     */
+    public List<Block> query(double x, double y, double width, double height, List<Block> result) {
+        result.clear();
+        int minCol = Math.max(0, toCell(x));
+        int maxCol = Math.min(columns - 1, toCell(x + width));
+        int minRow = Math.max(0, toCell(y));
+        int maxRow = Math.min(rows - 1, toCell(y + height));
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                Block block = cells[row * columns + col];
+                if (block != null && col == Math.max(minCol, block.getColumn()) && row == Math.max(minRow, block.getRow())) {
+                    result.add(block);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Lance un rectangle le long d'un segment et renvoie l'instant du premier contact avec un bloc.
+     * Les cases traversées par le centre du rectangle sont parcourues une à une (DDA) ; pour chacune,
+     * les blocs des cases voisines sont testés, le rectangle ne devant pas dépasser la taille d'une case.
+     *
+     * @param x      la position x de départ du rectangle
+     * @param y      la position y de départ du rectangle
+     * @param width  la largeur du rectangle
+     * @param height la hauteur du rectangle
+     * @param dx     le déplacement horizontal
+     * @param dy     le déplacement vertical
+     * @return l'instant du contact entre 0 et 1, ou Double.POSITIVE_INFINITY si le segment est libre
+     */
+    public double raycast(double x, double y, double width, double height, double dx, double dy) {
+        double size = GameConstants.SIZE_CASE;
+        double centerX = x + width / 2;
+        double centerY = y + height / 2;
+        int col = toCell(centerX);
+        int row = toCell(centerY);
+        int stepCol = (int) Math.signum(dx);
+        int stepRow = (int) Math.signum(dy);
+        double deltaX = stepCol != 0 ? size / Math.abs(dx) : Double.POSITIVE_INFINITY;
+        double deltaY = stepRow != 0 ? size / Math.abs(dy) : Double.POSITIVE_INFINITY;
+        double nextX = stepCol > 0 ? ((col + 1) * size - centerX) / dx
+                : stepCol < 0 ? (col * size - centerX) / dx : Double.POSITIVE_INFINITY;
+        double nextY = stepRow > 0 ? ((row + 1) * size - centerY) / dy
+                : stepRow < 0 ? (row * size - centerY) / dy : Double.POSITIVE_INFINITY;
+        double best = Double.POSITIVE_INFINITY;
+        int stamp = ++queryStamp;
+        while (true) {
+            for (int r = row - 1; r <= row + 1; r++) {
+                for (int c = col - 1; c <= col + 1; c++) {
+                    Block block = get(c, r);
+                    if (block != null && block.queryStamp != stamp) {
+                        block.queryStamp = stamp;
+                        best = Math.min(best, block.sweep(x, y, width, height, dx, dy));
+                    }
+                }
+            }
+            double cellExit = Math.min(nextX, nextY);
+            if (best <= cellExit || cellExit > 1) {
+                return best;
+            }
+            if (nextX < nextY) {
+                col += stepCol;
+                nextX += deltaX;
+            } else {
+                row += stepRow;
+                nextY += deltaY;
+            }
+        }
+    }
+
+    /**
+     * Convertit une coordonnée en pixels en indice de case.
+     *
+     * @param coordinate la coordonnée en pixels
+     * @return l'indice de la case
+     */
+    public static int toCell(double coordinate) {
+        return (int) Math.floor(coordinate / GameConstants.SIZE_CASE);
+    }
+
+    private boolean isInside(int col, int row) {
+        return col >= 0 && col < columns && row >= 0 && row < rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+}
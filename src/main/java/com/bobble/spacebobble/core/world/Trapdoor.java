@@ -1,5 +1,6 @@
 package com.bobble.spacebobble.core.world;
 
+import com.bobble.spacebobble.config.GameConstants;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
 
@@ -8,13 +9,39 @@ import java.io.Serializable;
 
 /**
  * La classe Trapdoor représente une trappe dans le monde du jeu.
+ * La trappe est une machine à états (fermée, en ouverture, ouverte, en fermeture) avancée par le tick du jeu :
+ * les entrées ne font que déposer une demande d'ouverture, sans jamais bloquer ni lancer de thread.
  */
 public class Trapdoor extends Block implements Serializable {
     @Serial
     private static final long serialVersionUID = -6485821687189158156L;
 
-    // Indique si la trappe est ouverte ou non
-    private boolean isOpened = false;
+    /**
+     * Etats possibles de la trappe.
+     */
+    public enum State {
+        CLOSED, OPENING, OPEN, CLOSING
+    }
+
+    private static final Color CLOSED_COLOR = Color.web("#4C6885");
+    private static final double CLOSED_OPACITY = 0.7;
+
+    private State state = State.CLOSED;
+
+    /**
+     * Nombre de ticks restant dans l'état courant.
+     */
+    private int timer = 0;
+
+    /**
+     * Demande d'ouverture déposée par les entrées, consommée par le tick.
+     */
+    private volatile boolean openRequested = false;
+
+    /**
+     * Opacité courante de la trappe, appliquée à la tuile dès qu'elle existe.
+     */
+    private double opacity = 0.5;
 
     /**
      * Constructeur de la classe Trapdoor.
@@ -24,52 +51,90 @@ public class Trapdoor extends Block implements Serializable {
      */
     public Trapdoor(double x, double y) {
         super(x, y);
-        this.tile = new Rectangle(x * this.getSize(), y * this.getSize(), this.getSize() * 4, this.getSize());
-        this.getTile().setFill(Color.web("#4C6885"));
-        this.getTile().setOpacity(0.5);
+        this.columnSpan = 4;
+    }
+
+    @Override
+    protected Rectangle createTile() {
+        Rectangle rectangle = super.createTile();
+        applyAppearance(rectangle);
+        return rectangle;
     }
 
     /**
-     * Ouvre la trappe.
+     * Demande l'ouverture de la trappe. La demande est prise en compte au prochain tick ;
+     * si la trappe est déjà ouverte, elle attend sa fermeture pour se rouvrir.
      */
-    public synchronized void open() {
-        while (isOpened) {
-            try {
-                wait();
-            } catch (InterruptedException e) {
-                throw new RuntimeException(e);
-            }
-        }
-        isOpened = true;
-        updateAppearance();
-
+    public void open() {
+        openRequested = true;
     }
 
     /**
-     * Ferme la trappe.
+     * Avance la trappe d'un tick : prend en compte une demande d'ouverture et décompte le temps passé dans l'état courant.
      */
-    public synchronized void close() {
-        isOpened = false;
-        notifyAll();
-        updateAppearance();
+    public void update() {
+        State previous = state;
+        if (openRequested && (state == State.CLOSED || state == State.CLOSING)) {
+            openRequested = false;
+            enter(State.OPENING, GameConstants.TRAPDOOR_TRANSITION_TICKS);
+        } else if (timer > 0 && --timer == 0) {
+            switch (state) {
+                case OPENING -> enter(State.OPEN, GameConstants.TRAPDOOR_OPEN_TICKS - GameConstants.TRAPDOOR_TRANSITION_TICKS);
+                case OPEN -> enter(State.CLOSING, GameConstants.TRAPDOOR_TRANSITION_TICKS);
+                case CLOSING -> enter(State.CLOSED, 0);
+                default -> {
+                }
+            }
+        }
+        if (state != previous || state == State.OPENING || state == State.CLOSING) {
+            updateAppearance();
+        }
+    }
+
+    private void enter(State state, int ticks) {
+        this.state = state;
+        this.timer = ticks;
     }
 
     /**
-     * Met à jour l'apparence de la trappe en fonction de son état.
+     * Met à jour l'apparence de la trappe en fonction de son état : elle s'efface pendant l'ouverture
+     * et réapparaît pendant la fermeture.
      */
     private void updateAppearance() {
-        this.getTile().setVisible(!isOpened);
-        this.getTile().setFill(isOpened ? Color.TRANSPARENT : Color.web("#4C6885"));
-        this.getTile().setOpacity(isOpened ? 0 : 0.7);
+        double progress = (double) timer / GameConstants.TRAPDOOR_TRANSITION_TICKS;
+        opacity = switch (state) {
+            case CLOSED -> CLOSED_OPACITY;
+            case OPENING -> CLOSED_OPACITY * progress;
+            case OPEN -> 0;
+            case CLOSING -> CLOSED_OPACITY * (1 - progress);
+        };
+        if (tile != null) {
+            applyAppearance(tile);
+        }
+    }
+
+    private void applyAppearance(Rectangle rectangle) {
+        rectangle.setVisible(opacity > 0);
+        rectangle.setFill(opacity > 0 ? CLOSED_COLOR : Color.TRANSPARENT);
+        rectangle.setOpacity(opacity);
     }
 
     /**
      * Renvoie l'état de la trappe.
      *
-     * @return true si la trappe est ouverte, false sinon.
+     * @return true si la trappe laisse passer les entités (en ouverture ou ouverte), false sinon.
      */
     public boolean isOpened() {
-        return isOpened;
+        return state == State.OPENING || state == State.OPEN;
+    }
+
+    /**
+     * Renvoie l'état courant de la machine à états.
+     *
+     * @return L'état de la trappe.
+     */
+    public State getState() {
+        return state;
     }
 
 }
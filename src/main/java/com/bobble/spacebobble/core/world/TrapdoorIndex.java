@@ -0,0 +1,189 @@
+package com.bobble.spacebobble.core.world;
+
+import com.bobble.spacebobble.config.GameConstants;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Index des trappes d'un niveau par colonne : chaque colonne référence les trappes qui la recouvrent,
+ * triées de haut en bas. Trouver les trappes au-dessus ou en dessous d'une entité ne parcourt
+ * que les colonnes de l'entité, avec une recherche dichotomique dans chacune.
+ */
+public class TrapdoorIndex {
+
+    private static final Trapdoor[] EMPTY = new Trapdoor[0];
+
+    private final Trapdoor[][] columns;
+
+    /**
+     * Constructeur de la classe TrapdoorIndex.
+     *
+     * @param columnCount le nombre de colonnes du niveau
+     * @param trapdoors   les trappes du niveau
+     */
+    public TrapdoorIndex(int columnCount, List<Trapdoor> trapdoors) {
+        List<List<Trapdoor>> lists = new ArrayList<>(columnCount);
+        for (int col = 0; col < columnCount; col++) {
+            lists.add(new ArrayList<>());
+        }
+        for (Trapdoor trapdoor : trapdoors) {
+            for (int col = trapdoor.getColumn(); col < Math.min(columnCount, trapdoor.getColumn() + trapdoor.getColumnSpan()); col++) {
+                lists.get(col).add(trapdoor);
+            }
+        }
+        this.columns = new Trapdoor[columnCount][];
+        for (int col = 0; col < columnCount; col++) {
+            List<Trapdoor> list = lists.get(col);
+            list.sort(Comparator.comparingInt(Block::getRow));
+            columns[col] = list.isEmpty() ? EMPTY : list.toArray(EMPTY);
+        }
+    }
+
+    /**
+     * Ajoute à result les trappes situées en dessous d'une zone et la chevauchant horizontalement,
+     * de la plus proche à la plus éloignée colonne par colonne, chaque trappe une seule fois.
+     *
+     * @param x      la position x de la zone
+     * @param y      la position y de la zone
+     * @param width  la largeur de la zone
+     * @param result la liste à compléter
+     */
+    public void below(double x, double y, double width, List<Trapdoor> result) {
+        int minCol = minColumn(x);
+        int maxCol = maxColumn(x, width);
+        for (int col = minCol; col <= maxCol; col++) {
+            Trapdoor[] column = columns[col];
+            for (int i = firstBelow(column, y); i < column.length; i++) {
+                addIfOverlapping(column[i], col, minCol, x, width, result);
+            }
+        }
+    }
+
+    /**
+     * Ajoute à result les trappes situées au-dessus d'une zone et la chevauchant horizontalement,
+     * de la plus proche à la plus éloignée colonne par colonne, chaque trappe une seule fois.
+     *
+     * @param x      la position x de la zone
+     * @param y      la position y de la zone
+     * @param width  la largeur de la zone
+     * @param result la liste à compléter
+     */
+    public void above(double x, double y, double width, List<Trapdoor> result) {
+        int minCol = minColumn(x);
+        int maxCol = maxColumn(x, width);
+        for (int col = minCol; col <= maxCol; col++) {
+            Trapdoor[] column = columns[col];
+            for (int i = lastAbove(column, y); i >= 0; i--) {
+                addIfOverlapping(column[i], col, minCol, x, width, result);
+            }
+        }
+    }
+
+    /**
+     * Renvoie la trappe la plus proche en dessous d'une zone, ou null s'il n'y en a pas.
+     *
+     * @param x     la position x de la zone
+     * @param y     la position y de la zone
+     * @param width la largeur de la zone
+     * @return la trappe la plus proche ou null
+     */
+    public Trapdoor nextBelow(double x, double y, double width) {
+        Trapdoor next = null;
+        for (int col = minColumn(x); col <= maxColumn(x, width); col++) {
+            Trapdoor[] column = columns[col];
+            for (int i = firstBelow(column, y); i < column.length; i++) {
+                if (overlaps(column[i], x, width)) {
+                    if (next == null || column[i].getRow() < next.getRow()) {
+                        next = column[i];
+                    }
+                    break;
+                }
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Renvoie la trappe la plus proche au-dessus d'une zone, ou null s'il n'y en a pas.
+     *
+     * @param x     la position x de la zone
+     * @param y     la position y de la zone
+     * @param width la largeur de la zone
+     * @return la trappe la plus proche ou null
+     */
+    public Trapdoor nextAbove(double x, double y, double width) {
+        Trapdoor next = null;
+        for (int col = minColumn(x); col <= maxColumn(x, width); col++) {
+            Trapdoor[] column = columns[col];
+            for (int i = lastAbove(column, y); i >= 0; i--) {
+                if (overlaps(column[i], x, width)) {
+                    if (next == null || column[i].getRow() > next.getRow()) {
+                        next = column[i];
+                    }
+                    break;
+                }
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Indice de la première trappe de la colonne dont le haut est strictement sous y.
+     */
+    private static int firstBelow(Trapdoor[] column, double y) {
+        int low = 0;
+        int high = column.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (column[mid].getY() > y) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Indice de la dernière trappe de la colonne dont le haut est strictement au-dessus de y, -1 s'il n'y en a pas.
+     */
+    private static int lastAbove(Trapdoor[] column, double y) {
+        int low = 0;
+        int high = column.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (column[mid].getY() < y) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low - 1;
+    }
+
+    /**
+     * Une trappe couvre plusieurs colonnes : elle n'est ajoutée que dans la première colonne parcourue qu'elle recouvre.
+     */
+    private static void addIfOverlapping(Trapdoor trapdoor, int col, int minCol, double x, double width, List<Trapdoor> result) {
+        if (col == Math.max(minCol, trapdoor.getColumn()) && overlaps(trapdoor, x, width)) {
+            result.add(trapdoor);
+        }
+    }
+
+    private static boolean overlaps(Trapdoor trapdoor, double x, double width) {
+        return x < trapdoor.getX() + trapdoor.getWidth() && x + width > trapdoor.getX();
+    }
+
+    /**
+     * Les bords des blocs débordent légèrement de leur case (voir Block.getX) : les colonnes voisines sont incluses.
+     */
+    private int minColumn(double x) {
+        return Math.max(0, (int) Math.floor(x / GameConstants.SIZE_CASE) - 1);
+    }
+
+    private int maxColumn(double x, double width) {
+        return Math.min(columns.length - 1, (int) Math.floor((x + width) / GameConstants.SIZE_CASE) + 1);
+    }
+}
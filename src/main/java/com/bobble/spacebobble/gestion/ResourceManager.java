@@ -2,6 +2,7 @@ package com.bobble.spacebobble.gestion;
 
 import com.bobble.spacebobble.config.GameConstants;
 import com.bobble.spacebobble.core.scores.Leaderboard;
+import javafx.application.Platform;
 import javafx.scene.image.Image;
 import javafx.scene.layout.*;
 import javafx.scene.media.Media;
@@ -9,14 +10,91 @@ import javafx.scene.media.MediaPlayer;
 import javafx.scene.paint.ImagePattern;
 
 import java.io.*;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystemAlreadyExistsException;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 
 /**
  * Gère les ressources du jeu, telles que les scores, les images et la musique.
  */
 public class ResourceManager {
 
+    /**
+     * Dossier des sprites, préchargés au démarrage.
+     */
+    public static final String SPRITES_DIRECTORY = "/asset/sprites";
+
+    /**
+     * Dossier des arrière-plans, préchargés au démarrage.
+     */
+    public static final String BACKGROUNDS_DIRECTORY = "/asset/background";
+
+    /**
+     * Textures déjà décodées, indexées par chemin de ressource.
+     */
+    private static final ConcurrentHashMap<String, Texture> textures = new ConcurrentHashMap<>();
+
+    /**
+     * Taille mémoire estimée des textures en cache, en octets.
+     */
+    private static final AtomicLong textureBytes = new AtomicLong();
+
+    /**
+     * Compteur des accès au cache, qui date la dernière utilisation de chaque texture.
+     */
+    private static final AtomicLong textureClock = new AtomicLong();
+
+    /**
+     * Arrière-plans décodés ou en cours de décodage, indexés par chemin de ressource.
+     */
+    private static final ConcurrentHashMap<String, CompletableFuture<Background>> backgrounds = new ConcurrentHashMap<>();
+
+    /**
+     * Thread de décodage des arrière-plans, pour ne jamais décoder une grande image sur le thread JavaFX.
+     */
+    private static final ExecutorService backgroundDecoder = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "background-decoder");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Dernier arrière-plan demandé pour chaque composant, seul à pouvoir s'afficher quand son décodage se termine.
+     * Utilisé uniquement depuis le thread JavaFX.
+     */
+    private static final Map<Region, String> requestedBackgrounds = new WeakHashMap<>();
+
+    /**
+     * Texture en cache : le motif prêt à l'emploi, sa taille estimée et son dernier accès.
+     */
+    private static final class Texture {
+        private final ImagePattern pattern;
+        private final long bytes;
+        private volatile long lastUse;
+
+        private Texture(ImagePattern pattern, long bytes) {
+            this.pattern = pattern;
+            this.bytes = bytes;
+        }
+    }
+
     /**
      * Sérialise le classement dans un fichier.
      *
@@ -74,28 +152,167 @@ public class ResourceManager {
     }
 
     /**
-     * Définit l'arrière-plan d'un composant avec une image.
+     * Définit l'arrière-plan d'un composant avec une image. Doit être appelée depuis le thread JavaFX.
+     * Un arrière-plan déjà décodé est appliqué immédiatement ; sinon il l'est dès la fin de son décodage,
+     * à moins qu'un autre arrière-plan ait été demandé entre-temps pour le même composant.
      *
      * @param composant le composant dont l'arrière-plan doit être défini
      * @param URLImage  l'URL de l'image à utiliser pour l'arrière-plan
      */
     public static void setComposantBackground(Pane composant, String URLImage) {
-        Image imageBG = new Image(String.valueOf(ResourceManager.class.getResource(URLImage)));
+        requestedBackgrounds.put(composant, URLImage);
+        CompletableFuture<Background> future = loadBackground(URLImage);
+        Background background = future.getNow(null);
+        if (background != null) {
+            composant.setBackground(background);
+            return;
+        }
+        future.thenAccept(decoded -> Platform.runLater(() -> {
+            if (URLImage.equals(requestedBackgrounds.get(composant))) {
+                composant.setBackground(decoded);
+            }
+        }));
+    }
+
+    /**
+     * Retourne l'arrière-plan d'une image, décodé une seule fois hors du thread JavaFX.
+     * Peut être appelée depuis n'importe quel thread.
+     *
+     * @param filename le chemin de ressource de l'image
+     * @return l'arrière-plan, disponible à la fin du décodage
+     */
+    public static CompletableFuture<Background> loadBackground(String filename) {
+        return backgrounds.computeIfAbsent(filename, name -> CompletableFuture.supplyAsync(() -> decodeBackground(name), backgroundDecoder));
+    }
+
+    /**
+     * Décode une image directement à la taille de la scène : la pleine résolution n'est jamais gardée en mémoire
+     * et l'image n'a plus à être réduite à chaque mise en page. L'arrière-plan obtenu est immuable et partagé.
+     */
+    private static Background decodeBackground(String filename) {
+        Image image = new Image(String.valueOf(ResourceManager.class.getResource(filename)),
+                GameConstants.SCENE_WIDTH, GameConstants.SCENE_HEIGHT, true, true);
+        if (image.isError()) {
+            System.out.println("Impossible de charger l'arrière-plan : " + filename);
+        }
         BackgroundSize backgroundSize = new BackgroundSize(GameConstants.SCENE_WIDTH, GameConstants.SCENE_HEIGHT, true, true, true, true);
-        BackgroundImage backgroundImage = new BackgroundImage(imageBG, BackgroundRepeat.REPEAT, BackgroundRepeat.NO_REPEAT, BackgroundPosition.DEFAULT, backgroundSize);
-        Background background = new Background(backgroundImage);
-        composant.setBackground(background);
+        BackgroundImage backgroundImage = new BackgroundImage(image, BackgroundRepeat.REPEAT, BackgroundRepeat.NO_REPEAT, BackgroundPosition.DEFAULT, backgroundSize);
+        return new Background(backgroundImage);
     }
 
     /**
-     * Charge une image depuis un fichier et retourne son motif.
+     * Retourne le motif d'une image. L'image n'est décodée qu'au premier appel pour un chemin donné,
+     * les appels suivants renvoient le même motif : changer le sprite d'une entité à chaque image ne coûte
+     * qu'une recherche dans le cache. Au-delà de GameConstants.TEXTURE_CACHE_BYTES, les textures
+     * les moins récemment utilisées sont retirées du cache.
      *
      * @param filename le nom du fichier de l'image à charger
      * @return le motif de l'image chargée
      */
     public static ImagePattern loadImage(String filename) {
+        Texture texture = textures.get(filename);
+        if (texture == null) {
+            texture = textures.computeIfAbsent(filename, ResourceManager::decodeTexture);
+            if (textureBytes.get() > GameConstants.TEXTURE_CACHE_BYTES) {
+                evictTextures(texture);
+            }
+        }
+        texture.lastUse = textureClock.incrementAndGet();
+        return texture.pattern;
+    }
+
+    /**
+     * Décode une image et estime sa taille en mémoire (4 octets par pixel).
+     */
+    private static Texture decodeTexture(String filename) {
         Image image = new Image(String.valueOf(ResourceManager.class.getResource(filename)));
-        return new ImagePattern(image, 0, 0, 1, 1, true);
+        Texture texture = new Texture(new ImagePattern(image, 0, 0, 1, 1, true), (long) (image.getWidth() * image.getHeight() * 4));
+        textureBytes.addAndGet(texture.bytes);
+        return texture;
+    }
+
+    /**
+     * Retire les textures les moins récemment utilisées jusqu'à repasser sous la limite du cache.
+     * La texture qui vient d'être chargée est conservée.
+     *
+     * @param kept la texture à conserver
+     */
+    private static synchronized void evictTextures(Texture kept) {
+        while (textureBytes.get() > GameConstants.TEXTURE_CACHE_BYTES) {
+            Map.Entry<String, Texture> oldest = null;
+            for (Map.Entry<String, Texture> entry : textures.entrySet()) {
+                if (entry.getValue() != kept && (oldest == null || entry.getValue().lastUse < oldest.getValue().lastUse)) {
+                    oldest = entry;
+                }
+            }
+            if (oldest == null) {
+                return;
+            }
+            if (textures.remove(oldest.getKey(), oldest.getValue())) {
+                textureBytes.addAndGet(-oldest.getValue().bytes);
+            }
+        }
+    }
+
+    /**
+     * Décode à l'avance tous les sprites du jeu, pour qu'aucun décodage n'ait lieu pendant la partie.
+     * Peut être appelée hors du thread JavaFX.
+     */
+    public static void preloadSprites() {
+        for (String sprite : listResources(SPRITES_DIRECTORY)) {
+            loadImage(sprite);
+        }
+    }
+
+    /**
+     * Lance le décodage de tous les arrière-plans du jeu, sans attendre sa fin.
+     */
+    public static void preloadBackgrounds() {
+        for (String background : listResources(BACKGROUNDS_DIRECTORY)) {
+            loadBackground(background);
+        }
+    }
+
+    /**
+     * Liste les fichiers d'un dossier de ressources, qu'il soit sur le disque ou dans l'archive du jeu.
+     *
+     * @param directory le chemin du dossier de ressources
+     * @return les chemins de ressources des fichiers du dossier, vide si le dossier est introuvable
+     */
+    private static List<String> listResources(String directory) {
+        URL url = ResourceManager.class.getResource(directory);
+        if (url == null) {
+            return List.of();
+        }
+        FileSystem fileSystem = null;
+        try {
+            URI uri = url.toURI();
+            Path path;
+            try {
+                path = Path.of(uri);
+            } catch (FileSystemNotFoundException e) {
+                try {
+                    fileSystem = FileSystems.newFileSystem(uri, Map.of());
+                    path = fileSystem.provider().getPath(uri);
+                } catch (FileSystemAlreadyExistsException alreadyOpen) {
+                    // Ouvert entre-temps par un autre appelant : il reste à lui de le fermer.
+                    path = FileSystems.getFileSystem(uri).provider().getPath(uri);
+                }
+            }
+            try (Stream<Path> files = Files.list(path)) {
+                return files.map(file -> directory + "/" + file.getFileName()).toList();
+            }
+        } catch (IOException | URISyntaxException e) {
+            System.out.println("Impossible de lister les ressources : " + directory);
+            return List.of();
+        } finally {
+            if (fileSystem != null) {
+                try {
+                    fileSystem.close();
+                } catch (IOException ignored) {
+                }
+            }
+        }
     }
 
     /**
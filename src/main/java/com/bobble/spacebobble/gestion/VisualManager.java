@@ -25,6 +25,11 @@ import java.util.TreeMap;
  */
 public class VisualManager {
 
+    /**
+     * Couleurs néon des projectiles.
+     */
+    private static final Color[] NEON_COLORS = {Color.RED, Color.LIGHTGREEN, Color.BLUE, Color.YELLOW, Color.MAGENTA, Color.CYAN};
+
     /**
      * Ajoute les éléments de leaderboard à l'UI
      *
@@ -185,19 +190,19 @@ public class VisualManager {
 
 
     /**
-     * Sélecteur d'une couleur aléatoire parmi 6.
+     * Sélecteur d'une couleur aléatoire parmi les couleurs néon.
      */
     public static Color getRandomColor() {
-        int randomChoice = (int) (Math.random() * 6);
-        return switch (randomChoice) {
-            case 0 -> Color.RED;
-            case 1 -> Color.LIGHTGREEN;
-            case 2 -> Color.BLUE;
-            case 3 -> Color.YELLOW;
-            case 4 -> Color.MAGENTA;
-            case 5 -> Color.CYAN;
-            default -> throw new IllegalStateException("Erreur de la couleur");
-        };
+        return NEON_COLORS[(int) (Math.random() * NEON_COLORS.length)];
+    }
+
+    /**
+     * Retourne les couleurs néon parmi lesquelles getRandomColor choisit.
+     *
+     * @return les couleurs néon
+     */
+    public static List<Color> getNeonColors() {
+        return List.of(NEON_COLORS);
     }
 
 }
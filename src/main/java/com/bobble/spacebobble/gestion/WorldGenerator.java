@@ -3,6 +3,7 @@ package com.bobble.spacebobble.gestion;
 import com.bobble.spacebobble.core.world.Block;
 import com.bobble.spacebobble.core.world.BlockPacket;
 import com.bobble.spacebobble.core.world.Solid;
+import com.bobble.spacebobble.core.world.TileGrid;
 import com.bobble.spacebobble.core.world.Trapdoor;
 import com.bobble.spacebobble.network.Server;
 
@@ -12,12 +13,25 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Gère la génération des niveaux du monde de jeu.
  */
 public class WorldGenerator {
 
+    /**
+     * Thread de préchargement des niveaux. La lecture d'un fichier bloque : elle ne doit pas occuper
+     * le pool commun, dont les tâches de collision des entités sont attendues à chaque tick.
+     */
+    private static final ExecutorService levelLoader = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "level-loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private ArrayList<String> data;
 
 
@@ -54,8 +68,9 @@ public class WorldGenerator {
      *
      * @param walls      la liste pour ajouter les blocs générés
      * @param difficulty le niveau de difficulté du niveau à générer
+     * @return la grille des collisions du niveau, où les blocs pleins voisins sont regroupés en rectangles
      */
-    public void createLevel(List<Block> walls, int difficulty) {
+    public TileGrid createLevel(List<Block> walls, int difficulty) {
         switch (difficulty) {
             case 0:
                 readFile("/levels/lvl1.txt");
@@ -69,13 +84,42 @@ public class WorldGenerator {
         }
         for (int line = 0; line < data.size(); line++) {
             for (int c = 0; c < data.get(line).length(); c++) {
+                Block block = null;
                 if (data.get(line).charAt(c) == '1') {
-                    walls.add(new Solid(c, line));
+                    block = new Solid(c, line);
                 } else if (data.get(line).charAt(c) == '2') {
-                    walls.add(new Trapdoor(c, line));
+                    block = new Trapdoor(c, line);
+                }
+                if (block != null) {
+                    walls.add(block);
                 }
             }
         }
+        return TileGrid.of(walls);
+    }
+
+    /**
+     * Génère un niveau en arrière-plan avec son propre WorldGenerator : le fichier est lu et les murs
+     * et la grille sont construits hors du thread du jeu. Les tuiles des murs ne sont attachées à aucune scène.
+     *
+     * @param difficulty le niveau de difficulté du niveau à générer
+     * @return le niveau généré, disponible à la fin de la génération
+     */
+    public static CompletableFuture<GeneratedLevel> prefetchLevel(int difficulty) {
+        return CompletableFuture.supplyAsync(() -> {
+            List<Block> walls = new ArrayList<>();
+            TileGrid grid = new WorldGenerator().createLevel(walls, difficulty);
+            return new GeneratedLevel(walls, grid);
+        }, levelLoader);
+    }
+
+    /**
+     * Niveau généré : ses murs et la grille des collisions construite à partir d'eux.
+     *
+     * @param walls les murs du niveau
+     * @param grid  la grille des collisions du niveau
+     */
+    public record GeneratedLevel(List<Block> walls, TileGrid grid) {
     }
 
     /**
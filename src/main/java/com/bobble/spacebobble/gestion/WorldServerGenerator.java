@@ -3,7 +3,9 @@ package com.bobble.spacebobble.gestion;
 import com.bobble.spacebobble.core.world.Block;
 import com.bobble.spacebobble.core.world.BlockPacket;
 import com.bobble.spacebobble.core.world.Solid;
+import com.bobble.spacebobble.core.world.TileGrid;
 import com.bobble.spacebobble.core.world.Trapdoor;
+import com.bobble.spacebobble.render.LevelLayer;
 import javafx.scene.Group;
 import javafx.scene.layout.Pane;
 
@@ -37,6 +39,11 @@ public class WorldServerGenerator implements Serializable {
      */
     private final List<Block> walls = new ArrayList<>();
 
+    /**
+     * La grille des tuiles du niveau
+     */
+    private TileGrid tileGrid = new TileGrid(0, 0);
+
     /**
      * Le socket utilisé pour communiquer avec le client
      */
@@ -64,6 +71,15 @@ public class WorldServerGenerator implements Serializable {
         return walls;
     }
 
+    /**
+     * Renvoie la grille des tuiles du niveau.
+     *
+     * @return La grille des tuiles du niveau.
+     */
+    public TileGrid getTileGrid() {
+        return tileGrid;
+    }
+
     /**
      * Charge le niveau à partir du serveur.
      */
@@ -96,7 +112,8 @@ public class WorldServerGenerator implements Serializable {
                     continue;
             }
             walls.add(block);
-            gameObjects.getChildren().add(block.getTile());
         }
+        gameObjects.getChildren().addAll(LevelLayer.build(walls));
+        tileGrid = TileGrid.of(walls);
     }
 }
\ No newline at end of file
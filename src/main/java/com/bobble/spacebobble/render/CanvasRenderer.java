@@ -0,0 +1,159 @@
+package com.bobble.spacebobble.render;
+
+import com.bobble.spacebobble.core.world.AABB;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.paint.ImagePattern;
+import javafx.scene.paint.Paint;
+import javafx.scene.shape.Rectangle;
+
+/**
+ * Dessine des rectangles sur un Canvas unique, en une passe par image.
+ * Les sprites et les tuiles restent des Rectangle qui décrivent position, taille, remplissage et opacité,
+ * mais ils ne sont plus attachés à la scène : JavaFX n'a plus à calculer la mise en page,
+ * les bornes et le style de centaines de noeuds à chaque impulsion.
+ */
+public class CanvasRenderer {
+    private final Canvas canvas;
+    private final GraphicsContext graphics;
+
+    /**
+     * Zone du monde visible dans l'image en cours, null si tout ce qui est dessiné est visible.
+     */
+    private AABB visibleArea;
+
+    /**
+     * Constructeur de la classe CanvasRenderer.
+     *
+     * @param width  la largeur du Canvas
+     * @param height la hauteur du Canvas
+     */
+    public CanvasRenderer(double width, double height) {
+        this.canvas = new Canvas(width, height);
+        this.graphics = canvas.getGraphicsContext2D();
+        this.graphics.save();
+    }
+
+    /**
+     * Retourne le Canvas sur lequel le monde est dessiné.
+     *
+     * @return le Canvas
+     */
+    public Canvas getCanvas() {
+        return canvas;
+    }
+
+    /**
+     * Commence une image : efface le Canvas, laissant voir l'arrière-plan de son parent, et remet à zéro
+     * la transformation et la zone visible.
+     *
+     * @return le contexte graphique, sur lequel la caméra peut appliquer sa transformation
+     */
+    public GraphicsContext begin() {
+        visibleArea = null;
+        graphics.restore();
+        graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        graphics.save();
+        return graphics;
+    }
+
+    /**
+     * Définit la zone du monde visible dans l'image en cours : ce qui est hors de la zone n'est pas dessiné,
+     * et seule la partie visible d'une image est copiée.
+     *
+     * @param visibleArea la zone visible, en coordonnées du monde
+     */
+    public void setVisibleArea(AABB visibleArea) {
+        this.visibleArea = visibleArea;
+    }
+
+    /**
+     * Indique si un rectangle recouvre la zone visible de l'image en cours.
+     *
+     * @param x      la position x du rectangle
+     * @param y      la position y du rectangle
+     * @param width  la largeur du rectangle
+     * @param height la hauteur du rectangle
+     * @return true si le rectangle est visible
+     */
+    public boolean isVisible(double x, double y, double width, double height) {
+        return visibleArea == null || visibleArea.intersects(x, y, width, height);
+    }
+
+    /**
+     * Dessine un noeud : un rectangle visible est dessiné avec son remplissage et son opacité, une image à sa position,
+     * un parent est dessiné en parcourant ses enfants dans l'ordre d'affichage.
+     *
+     * @param node le noeud à dessiner
+     */
+    public void draw(Node node) {
+        if (node instanceof Rectangle rectangle) {
+            draw(rectangle);
+        } else if (node instanceof ImageView image) {
+            draw(image);
+        } else if (node instanceof Parent parent) {
+            for (Node child : parent.getChildrenUnmodifiable()) {
+                draw(child);
+            }
+        }
+    }
+
+    /**
+     * Dessine une image à une position si elle recouvre la zone visible.
+     *
+     * @param image l'image à dessiner
+     * @param x     la position x de l'image
+     * @param y     la position y de l'image
+     */
+    public void draw(Image image, double x, double y) {
+        if (isVisible(x, y, image.getWidth(), image.getHeight())) {
+            graphics.drawImage(image, x, y);
+        }
+    }
+
+    /**
+     * Dessine une image à sa position, en ne copiant que sa partie visible.
+     *
+     * @param view le noeud de l'image
+     */
+    private void draw(ImageView view) {
+        Image image = view.getImage();
+        if (visibleArea == null) {
+            graphics.drawImage(image, view.getX(), view.getY());
+            return;
+        }
+        double minX = Math.max(view.getX(), visibleArea.x());
+        double minY = Math.max(view.getY(), visibleArea.y());
+        double maxX = Math.min(view.getX() + image.getWidth(), visibleArea.x() + visibleArea.width());
+        double maxY = Math.min(view.getY() + image.getHeight(), visibleArea.y() + visibleArea.height());
+        if (minX < maxX && minY < maxY) {
+            graphics.drawImage(image, minX - view.getX(), minY - view.getY(), maxX - minX, maxY - minY,
+                    minX, minY, maxX - minX, maxY - minY);
+        }
+    }
+
+    /**
+     * Dessine un rectangle avec son remplissage : une image est étirée sur le rectangle, comme le fait un ImagePattern proportionnel.
+     *
+     * @param rectangle le rectangle à dessiner
+     */
+    public void draw(Rectangle rectangle) {
+        if (!rectangle.isVisible() || rectangle.getOpacity() <= 0
+                || !isVisible(rectangle.getX(), rectangle.getY(), rectangle.getWidth(), rectangle.getHeight())) {
+            return;
+        }
+        graphics.setGlobalAlpha(rectangle.getOpacity());
+        Paint fill = rectangle.getFill();
+        if (fill instanceof ImagePattern pattern) {
+            graphics.drawImage(pattern.getImage(), rectangle.getX(), rectangle.getY(), rectangle.getWidth(), rectangle.getHeight());
+        } else if (fill != null) {
+            graphics.setFill(fill);
+            graphics.fillRect(rectangle.getX(), rectangle.getY(), rectangle.getWidth(), rectangle.getHeight());
+        }
+        graphics.setGlobalAlpha(1);
+    }
+}
@@ -0,0 +1,142 @@
+package com.bobble.spacebobble.render;
+
+import com.bobble.spacebobble.config.GameConstants;
+import com.bobble.spacebobble.config.Levels;
+import com.bobble.spacebobble.config.Mode;
+import com.bobble.spacebobble.core.GameWorld;
+import com.bobble.spacebobble.core.entities.Alien;
+import com.bobble.spacebobble.core.entities.Bobble;
+import com.bobble.spacebobble.core.entities.MovingEntity;
+import com.bobble.spacebobble.core.entities.Survivor;
+import com.bobble.spacebobble.core.utilities.CameraPlayer;
+import com.bobble.spacebobble.core.world.AABB;
+import com.bobble.spacebobble.core.world.Block;
+import com.bobble.spacebobble.core.world.ProjectilePool;
+import com.bobble.spacebobble.gestion.ResourceManager;
+import com.bobble.spacebobble.gestion.VisualManager;
+import javafx.scene.Node;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Affichage du GameWorld sur un Canvas unique, redessiné en une passe à chaque image à partir de l'état de la simulation.
+ * En mode caméra, seul ce qui recouvre la zone visible est dessiné.
+ */
+public class CanvasView implements PaneView {
+    private final CanvasRenderer renderer = new CanvasRenderer(GameConstants.SCENE_WIDTH, GameConstants.SCENE_HEIGHT);
+    private final Pane pane = new Pane(renderer.getCanvas());
+    private final CameraPlayer camera = new CameraPlayer(0, 0);
+
+    /**
+     * Affichage du niveau courant, et celui du niveau suivant s'il a déjà été préparé.
+     */
+    private LevelBuffer level;
+    private LevelBuffer nextLevel;
+    private final List<Node> visibleLevel = new ArrayList<>();
+
+    /**
+     * Centre du niveau, autour duquel la caméra applique son zoom comme le fait JavaFX pour un groupe.
+     */
+    private double centerX;
+    private double centerY;
+
+    /**
+     * Images des projectiles entourés de leur lueur, une par couleur néon, et image de chaque identifiant
+     * de la réserve de projectiles.
+     */
+    private Map<Color, Image> glowSprites;
+    private Image[] projectileSprites = new Image[0];
+
+    @Override
+    public Pane getPane() {
+        return pane;
+    }
+
+    @Override
+    public void onLevelPrefetched(List<Block> walls, Levels levels) {
+        nextLevel = LevelBuffer.build(walls, levels);
+    }
+
+    @Override
+    public void onLevelLoaded(GameWorld world) {
+        level = nextLevel != null && nextLevel.isFor(world.getWalls()) ? nextLevel : LevelBuffer.build(world.getWalls(), world.getLevels());
+        nextLevel = null;
+        centerX = level.width() / 2;
+        centerY = level.height() / 2;
+        ProjectilePool projectiles = world.getProjectiles();
+        if (glowSprites == null) {
+            glowSprites = ProjectileGlow.bakeSprites();
+        }
+        if (projectileSprites.length != projectiles.getCapacity()) {
+            projectileSprites = new Image[projectiles.getCapacity()];
+            for (int id = 0; id < projectileSprites.length; id++) {
+                projectileSprites[id] = glowSprites.get(VisualManager.getRandomColor());
+            }
+        }
+        ResourceManager.setComposantBackground(pane, level.background());
+    }
+
+    @Override
+    public void onEntityRemoved(MovingEntity entity) {
+    }
+
+    @Override
+    public void render(GameWorld world, double alpha) {
+        GraphicsContext graphics = renderer.begin();
+        Bobble bobble = world.getBobble();
+        List<Node> levelNodes = level.nodes();
+        if (world.getMode() == Mode.CAMERA) {
+            camera.playerCam(bobble.getPosition().getX(), bobble.getPosition().getY(), pane.getWidth(), pane.getHeight());
+            camera.apply(graphics, centerX, centerY);
+            AABB area = camera.getVisibleArea(centerX, centerY, pane.getWidth(), pane.getHeight());
+            renderer.setVisibleArea(area);
+            levelNodes = level.index().query(area, visibleLevel);
+        }
+        for (Node node : levelNodes) {
+            renderer.draw(node);
+        }
+        ProjectilePool projectiles = world.getProjectiles();
+        for (int i = 0; i < projectiles.size(); i++) {
+            Image sprite = projectileSprites[projectiles.getSpriteId(i)];
+            // L'image déborde du projectile de la taille de la lueur, de chaque côté
+            renderer.draw(sprite, projectiles.getX(i, alpha) - (sprite.getWidth() - ProjectilePool.WIDTH) / 2,
+                    projectiles.getY(i, alpha) - (sprite.getHeight() - ProjectilePool.HEIGHT) / 2);
+        }
+        for (Survivor survivor : world.getSurvivors()) {
+            if (!world.isOffScreen(survivor)) {
+                draw(survivor, alpha);
+            }
+        }
+        for (Alien alien : world.getAliens()) {
+            if (!world.isOffScreen(alien)) {
+                draw(alien, alpha);
+            }
+        }
+        if (bobble.isAlive()) {
+            bobble.getSprite().setOpacity(bobble.isInvincible() ? 0.5 : 1);
+            draw(bobble, alpha);
+        }
+    }
+
+    /**
+     * Place le sprite d'une entité, l'anime puis le dessine s'il est dans la zone visible.
+     *
+     * @param entity l'entité à afficher
+     * @param alpha  le facteur d'interpolation de la position
+     */
+    private void draw(MovingEntity entity, double alpha) {
+        entity.updateSprite(alpha);
+        Rectangle sprite = entity.getSprite();
+        if (renderer.isVisible(sprite.getX(), sprite.getY(), sprite.getWidth(), sprite.getHeight())) {
+            entity.animeSprite();
+            renderer.draw(sprite);
+        }
+    }
+}
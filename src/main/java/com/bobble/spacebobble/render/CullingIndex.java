@@ -0,0 +1,70 @@
+package com.bobble.spacebobble.render;
+
+import com.bobble.spacebobble.config.GameConstants;
+import com.bobble.spacebobble.core.world.AABB;
+import com.bobble.spacebobble.core.world.SpatialHash;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+import javafx.scene.image.ImageView;
+import javafx.scene.shape.Rectangle;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index spatial des noeuds immobiles d'un niveau (image des blocs pleins, tuiles des trappes).
+ * La table est remplie une seule fois au chargement du niveau : à chaque image, seuls les noeuds
+ * des cellules recouvertes par la zone visible de la caméra sont testés puis affichés.
+ */
+public class CullingIndex {
+    private final SpatialHash<Node> hash = new SpatialHash<>(GameConstants.CULLING_CELL);
+    private final Map<Node, AABB> bounds = new IdentityHashMap<>();
+    private final List<Node> candidates = new ArrayList<>();
+
+    /**
+     * Constructeur de la classe CullingIndex.
+     *
+     * @param nodes les noeuds à indexer, qui ne doivent plus bouger
+     */
+    public CullingIndex(List<Node> nodes) {
+        for (Node node : nodes) {
+            AABB box = boundsOf(node);
+            bounds.put(node, box);
+            hash.insert(node, box.x(), box.y(), box.width(), box.height());
+        }
+    }
+
+    /**
+     * Remplit la liste avec les noeuds qui recouvrent une zone, chacun une seule fois.
+     *
+     * @param area   la zone, en coordonnées du monde
+     * @param result la liste à remplir (vidée au préalable)
+     * @return la liste result
+     */
+    public List<Node> query(AABB area, List<Node> result) {
+        result.clear();
+        for (Node node : hash.query(area.x(), area.y(), area.width(), area.height(), candidates)) {
+            if (area.intersects(bounds.get(node))) {
+                result.add(node);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Bornes d'un noeud dans son parent. Rectangles et images sont calculés à partir de leur géométrie,
+     * sans demander à JavaFX de calculer les bornes du noeud.
+     */
+    private static AABB boundsOf(Node node) {
+        if (node instanceof Rectangle rectangle) {
+            return new AABB(rectangle.getX(), rectangle.getY(), rectangle.getWidth(), rectangle.getHeight());
+        }
+        if (node instanceof ImageView image) {
+            return new AABB(image.getX(), image.getY(), image.getImage().getWidth(), image.getImage().getHeight());
+        }
+        Bounds box = node.getBoundsInParent();
+        return new AABB(box.getMinX(), box.getMinY(), box.getWidth(), box.getHeight());
+    }
+}
@@ -0,0 +1,55 @@
+package com.bobble.spacebobble.render;
+
+import com.bobble.spacebobble.config.GameConstants;
+import com.bobble.spacebobble.config.Levels;
+import com.bobble.spacebobble.core.world.Block;
+import com.bobble.spacebobble.gestion.ResourceManager;
+import javafx.scene.Node;
+
+import java.util.List;
+
+/**
+ * Affichage d'un niveau construit hors de la scène : noeuds des murs (voir LevelLayer), leur index spatial,
+ * la taille du niveau et l'arrière-plan, dont le décodage est lancé à la construction.
+ * Une vue prépare ainsi le niveau suivant pendant le niveau courant, puis échange les deux au changement de niveau.
+ *
+ * @param walls      les murs du niveau
+ * @param nodes      les noeuds d'affichage des murs
+ * @param index      l'index spatial des noeuds
+ * @param width      la largeur du niveau en pixels
+ * @param height     la hauteur du niveau en pixels
+ * @param background le chemin de l'arrière-plan du niveau
+ */
+public record LevelBuffer(List<Block> walls, List<Node> nodes, CullingIndex index, double width, double height,
+                          String background) {
+
+    /**
+     * Construit l'affichage d'un niveau. Doit être appelée depuis le thread JavaFX.
+     *
+     * @param walls  les murs du niveau
+     * @param levels le niveau
+     * @return l'affichage du niveau
+     */
+    public static LevelBuffer build(List<Block> walls, Levels levels) {
+        String background = "/asset/background/lvl" + (levels.ordinal() + 1) + ".png";
+        ResourceManager.loadBackground(background);
+        List<Node> nodes = LevelLayer.build(walls);
+        double width = 0;
+        double height = 0;
+        for (Block wall : walls) {
+            width = Math.max(width, (wall.getColumn() + wall.getColumnSpan()) * GameConstants.SIZE_CASE);
+            height = Math.max(height, (wall.getRow() + wall.getRowSpan()) * GameConstants.SIZE_CASE);
+        }
+        return new LevelBuffer(walls, nodes, new CullingIndex(nodes), width, height, background);
+    }
+
+    /**
+     * Indique si cet affichage a été construit pour des murs donnés.
+     *
+     * @param walls les murs du niveau
+     * @return true si l'affichage correspond à ces murs
+     */
+    public boolean isFor(List<Block> walls) {
+        return this.walls == walls;
+    }
+}
@@ -0,0 +1,68 @@
+package com.bobble.spacebobble.render;
+
+import com.bobble.spacebobble.core.world.Block;
+import com.bobble.spacebobble.core.world.Trapdoor;
+import javafx.geometry.Bounds;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.ImageView;
+import javafx.scene.paint.Color;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Couche d'affichage des murs d'un niveau.
+ * Les blocs pleins ne bougent jamais : leurs tuiles sont rendues une seule fois dans une image,
+ * affichée par un unique noeud. Seules les trappes, dont l'apparence change, restent des noeuds
+ * à part, superposés à l'image.
+ */
+public final class LevelLayer {
+
+    private LevelLayer() {
+    }
+
+    /**
+     * Construit les noeuds d'affichage des murs d'un niveau. Doit être appelée depuis le thread JavaFX.
+     *
+     * @param walls les murs du niveau
+     * @return l'image des blocs pleins suivie des tuiles des trappes
+     */
+    public static List<Node> build(List<Block> walls) {
+        Group solids = new Group();
+        List<Node> trapdoors = new ArrayList<>();
+        for (Block wall : walls) {
+            wall.applyTexture();
+            if (wall instanceof Trapdoor) {
+                trapdoors.add(wall.getTile());
+            } else {
+                solids.getChildren().add(wall.getTile());
+            }
+        }
+        List<Node> nodes = new ArrayList<>(trapdoors.size() + 1);
+        if (!solids.getChildren().isEmpty()) {
+            nodes.add(rasterize(solids));
+        }
+        nodes.addAll(trapdoors);
+        return nodes;
+    }
+
+    /**
+     * Rend un groupe de noeuds dans une image, placée à l'emplacement du groupe.
+     * Les tuiles sont ensuite retirées du groupe pour ne pas rester attachées à un parent.
+     *
+     * @param group le groupe à rendre
+     * @return le noeud affichant l'image
+     */
+    private static ImageView rasterize(Group group) {
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        Bounds bounds = group.getLayoutBounds();
+        ImageView image = new ImageView(group.snapshot(parameters, null));
+        image.setX(bounds.getMinX());
+        image.setY(bounds.getMinY());
+        group.getChildren().clear();
+        return image;
+    }
+}
@@ -0,0 +1,95 @@
+package com.bobble.spacebobble.render;
+
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Suivi des noeuds attachés à une liste d'enfants de la scène.
+ * Savoir si un sprite est affiché ne demande plus de parcourir la liste des enfants, et les ajouts et
+ * retraits demandés pendant une image sont appliqués en une seule modification de la liste par flush() :
+ * un seul changement est notifié aux écouteurs de la scène au lieu d'un par noeud.
+ */
+public class NodeTracker {
+    private final ObservableList<Node> children;
+
+    /**
+     * Noeuds attachés, en tenant compte des modifications en attente.
+     */
+    private final Set<Node> attached = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Modifications en attente du prochain flush().
+     */
+    private final List<Node> added = new ArrayList<>();
+    private final Set<Node> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Constructeur de la classe NodeTracker.
+     *
+     * @param children la liste d'enfants suivie
+     */
+    public NodeTracker(ObservableList<Node> children) {
+        this.children = children;
+    }
+
+    /**
+     * Demande l'ajout d'un noeud s'il n'est pas déjà attaché.
+     *
+     * @param node le noeud à attacher
+     */
+    public void attach(Node node) {
+        if (attached.add(node) && !removed.remove(node)) {
+            added.add(node);
+        }
+    }
+
+    /**
+     * Demande le retrait d'un noeud s'il est attaché.
+     *
+     * @param node le noeud à détacher
+     */
+    public void detach(Node node) {
+        if (attached.remove(node) && !added.remove(node)) {
+            removed.add(node);
+        }
+    }
+
+    /**
+     * Indique si un noeud est attaché, en tenant compte des modifications en attente.
+     *
+     * @param node le noeud
+     * @return true si le noeud est attaché
+     */
+    public boolean isAttached(Node node) {
+        return attached.contains(node);
+    }
+
+    /**
+     * Applique les ajouts et retraits en attente à la liste des enfants.
+     */
+    public void flush() {
+        if (!removed.isEmpty()) {
+            children.removeAll(removed);
+            removed.clear();
+        }
+        if (!added.isEmpty()) {
+            children.addAll(added);
+            added.clear();
+        }
+    }
+
+    /**
+     * Oublie tous les noeuds suivis, après que la liste des enfants a été vidée.
+     */
+    public void clear() {
+        attached.clear();
+        added.clear();
+        removed.clear();
+    }
+}
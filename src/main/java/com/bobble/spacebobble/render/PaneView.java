@@ -0,0 +1,28 @@
+package com.bobble.spacebobble.render;
+
+import com.bobble.spacebobble.config.RenderBackend;
+import com.bobble.spacebobble.core.GameView;
+import javafx.scene.layout.Pane;
+
+/**
+ * Affichage du GameWorld dans un panneau JavaFX, quel que soit son moteur d'affichage.
+ */
+public interface PaneView extends GameView {
+
+    /**
+     * Retourne le panneau contenant les éléments visuels du jeu.
+     *
+     * @return le panneau du jeu
+     */
+    Pane getPane();
+
+    /**
+     * Crée l'affichage correspondant à un moteur d'affichage.
+     *
+     * @param backend le moteur d'affichage
+     * @return l'affichage du jeu
+     */
+    static PaneView create(RenderBackend backend) {
+        return backend == RenderBackend.CANVAS ? new CanvasView() : new SceneGraphView();
+    }
+}
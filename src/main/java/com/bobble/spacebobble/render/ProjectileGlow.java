@@ -0,0 +1,62 @@
+package com.bobble.spacebobble.render;
+
+import com.bobble.spacebobble.core.world.ProjectilePool;
+import com.bobble.spacebobble.gestion.VisualManager;
+import javafx.scene.Group;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.effect.Blend;
+import javafx.scene.effect.BlendMode;
+import javafx.scene.effect.Effect;
+import javafx.scene.effect.GaussianBlur;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Lueur néon des projectiles : le projectile est dessiné, puis une copie floutée lui est ajoutée.
+ * La lueur n'est jamais appliquée projectile par projectile, ce qui demanderait une passe de rendu hors écran
+ * par noeud : l'affichage à noeuds applique un seul effet à la couche de tous les projectiles,
+ * l'affichage Canvas dessine une image de la lueur calculée une fois par couleur.
+ */
+public final class ProjectileGlow {
+
+    /**
+     * Rayon du flou de la lueur, en pixels.
+     */
+    public static final double RADIUS = 6;
+
+    private ProjectileGlow() {
+    }
+
+    /**
+     * Crée l'effet de lueur, à appliquer à la couche qui contient tous les projectiles.
+     *
+     * @return l'effet de lueur
+     */
+    public static Effect createEffect() {
+        Blend glow = new Blend(BlendMode.ADD);
+        glow.setTopInput(new GaussianBlur(RADIUS));
+        return glow;
+    }
+
+    /**
+     * Calcule une fois l'image d'un projectile entouré de sa lueur pour chaque couleur néon.
+     * Doit être appelée depuis le thread JavaFX.
+     *
+     * @return les images des projectiles, par couleur
+     */
+    public static Map<Color, Image> bakeSprites() {
+        Map<Color, Image> sprites = new HashMap<>();
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        for (Color color : VisualManager.getNeonColors()) {
+            Group projectile = new Group(new Rectangle(ProjectilePool.WIDTH, ProjectilePool.HEIGHT, color));
+            projectile.setEffect(createEffect());
+            sprites.put(color, projectile.snapshot(parameters, null));
+        }
+        return sprites;
+    }
+}
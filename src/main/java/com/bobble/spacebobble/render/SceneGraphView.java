@@ -0,0 +1,212 @@
+package com.bobble.spacebobble.render;
+
+import com.bobble.spacebobble.config.Levels;
+import com.bobble.spacebobble.config.Mode;
+import com.bobble.spacebobble.core.GameWorld;
+import com.bobble.spacebobble.core.entities.Alien;
+import com.bobble.spacebobble.core.entities.Bobble;
+import com.bobble.spacebobble.core.entities.MovingEntity;
+import com.bobble.spacebobble.core.entities.Survivor;
+import com.bobble.spacebobble.core.utilities.CameraPlayer;
+import com.bobble.spacebobble.core.world.AABB;
+import com.bobble.spacebobble.core.world.Block;
+import com.bobble.spacebobble.core.world.ProjectilePool;
+import com.bobble.spacebobble.gestion.VisualManager;
+import com.bobble.spacebobble.gestion.ResourceManager;
+import javafx.geometry.Bounds;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.layout.Pane;
+import javafx.scene.shape.Rectangle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Affichage du GameWorld avec un noeud JavaFX par bloc, entité et projectile.
+ * En mode caméra, seuls les noeuds qui recouvrent la zone visible restent attachés ou visibles :
+ * JavaFX n'a plus à traiter ceux que le zoom laisse hors de l'écran.
+ */
+public class SceneGraphView implements PaneView {
+    private final Group gameObjects = new Group();
+    private final Pane pane = new Pane(gameObjects);
+    private final CameraPlayer camera = new CameraPlayer(0, 0);
+
+    /**
+     * Couche du niveau courant, et celle du niveau suivant si elle a déjà été préparée hors de la scène.
+     */
+    private LevelGroup level;
+    private LevelGroup nextLevel;
+
+    /**
+     * Noeuds du niveau attachés à l'image courante.
+     */
+    private final List<Node> visibleLevel = new ArrayList<>();
+
+    /**
+     * Sprites des entités attachés aux objets du jeu, mis à jour en une fois à la fin de chaque image.
+     */
+    private final NodeTracker sprites = new NodeTracker(gameObjects.getChildren());
+
+    /**
+     * Un sprite par identifiant de la réserve de projectiles, créés une seule fois et masqués quand ils ne servent pas.
+     * Ils sont regroupés dans une couche qui porte la lueur de tous les projectiles en un seul effet.
+     */
+    private Rectangle[] projectileSprites = new Rectangle[0];
+    private final Group projectileLayer = new Group();
+
+    @Override
+    public Pane getPane() {
+        return pane;
+    }
+
+    @Override
+    public void onLevelPrefetched(List<Block> walls, Levels levels) {
+        nextLevel = new LevelGroup(LevelBuffer.build(walls, levels));
+    }
+
+    @Override
+    public void onLevelLoaded(GameWorld world) {
+        level = nextLevel != null && nextLevel.buffer.isFor(world.getWalls())
+                ? nextLevel : new LevelGroup(LevelBuffer.build(world.getWalls(), world.getLevels()));
+        nextLevel = null;
+        visibleLevel.clear();
+        visibleLevel.addAll(level.buffer.nodes());
+        gameObjects.getChildren().clear();
+        sprites.clear();
+        gameObjects.getChildren().addAll(level.group, projectileLayer);
+        ProjectilePool projectiles = world.getProjectiles();
+        if (projectileSprites.length != projectiles.getCapacity()) {
+            projectileSprites = new Rectangle[projectiles.getCapacity()];
+            for (int id = 0; id < projectileSprites.length; id++) {
+                projectileSprites[id] = new Rectangle(ProjectilePool.WIDTH, ProjectilePool.HEIGHT, VisualManager.getRandomColor());
+            }
+            projectileLayer.getChildren().setAll(projectileSprites);
+            projectileLayer.setEffect(ProjectileGlow.createEffect());
+        }
+        for (Rectangle sprite : projectileSprites) {
+            sprite.setVisible(false);
+        }
+        ResourceManager.setComposantBackground(pane, level.buffer.background());
+    }
+
+    @Override
+    public void onEntityRemoved(MovingEntity entity) {
+        sprites.detach(entity.getSprite());
+    }
+
+    @Override
+    public void render(GameWorld world, double alpha) {
+        Bobble bobble = world.getBobble();
+        AABB area = null;
+        if (world.getMode() == Mode.CAMERA) {
+            // JavaFX zoome le groupe autour du centre de ses bornes, fixées par l'image du niveau
+            camera.playerCam(bobble.getPosition().getX(), bobble.getPosition().getY(), pane.getWidth(), pane.getHeight());
+            Bounds bounds = gameObjects.getLayoutBounds();
+            area = camera.getVisibleArea(bounds.getMinX() + bounds.getWidth() / 2, bounds.getMinY() + bounds.getHeight() / 2,
+                    pane.getWidth(), pane.getHeight());
+            cullLevel(area);
+        }
+        if (bobble.isAlive()) {
+            bobble.getSprite().setOpacity(bobble.isInvincible() ? 0.5 : 1);
+            show(bobble, alpha, area);
+        } else {
+            sprites.detach(bobble.getSprite());
+        }
+        for (Alien alien : world.getAliens()) {
+            if (world.isOffScreen(alien)) {
+                sprites.detach(alien.getSprite());
+            } else {
+                show(alien, alpha, area);
+            }
+        }
+        for (Survivor survivor : world.getSurvivors()) {
+            if (world.isOffScreen(survivor)) {
+                sprites.detach(survivor.getSprite());
+            } else {
+                show(survivor, alpha, area);
+            }
+        }
+        renderProjectiles(world.getProjectiles(), alpha, area);
+        sprites.flush();
+        if (area != null) {
+            camera.apply(gameObjects);
+        }
+    }
+
+    /**
+     * N'attache que les noeuds du niveau qui recouvrent la zone visible.
+     * Un noeud qui reste visible est détaché puis rattaché : les deux demandes s'annulent dans le NodeTracker.
+     *
+     * @param area la zone visible
+     */
+    private void cullLevel(AABB area) {
+        for (Node node : visibleLevel) {
+            level.nodes.detach(node);
+        }
+        for (Node node : level.buffer.index().query(area, visibleLevel)) {
+            level.nodes.attach(node);
+        }
+        level.nodes.flush();
+    }
+
+    /**
+     * Place les sprites des projectiles en vol dans la zone visible et masque les autres.
+     *
+     * @param projectiles la réserve des projectiles
+     * @param alpha       le facteur d'interpolation de la position
+     * @param area        la zone visible, null si tout le niveau est affiché
+     */
+    private void renderProjectiles(ProjectilePool projectiles, double alpha, AABB area) {
+        for (Rectangle sprite : projectileSprites) {
+            sprite.setVisible(false);
+        }
+        for (int i = 0; i < projectiles.size(); i++) {
+            double x = projectiles.getX(i, alpha);
+            double y = projectiles.getY(i, alpha);
+            if (area == null || area.intersects(x, y, ProjectilePool.WIDTH, ProjectilePool.HEIGHT)) {
+                Rectangle sprite = projectileSprites[projectiles.getSpriteId(i)];
+                sprite.setX(x);
+                sprite.setY(y);
+                sprite.setVisible(true);
+            }
+        }
+    }
+
+    /**
+     * Place le sprite d'une entité, l'anime et l'ajoute à l'affichage s'il n'y est pas.
+     * Un sprite hors de la zone visible est détaché sans être animé.
+     *
+     * @param entity l'entité à afficher
+     * @param alpha  le facteur d'interpolation de la position
+     * @param area   la zone visible, null si tout le niveau est affiché
+     */
+    private void show(MovingEntity entity, double alpha, AABB area) {
+        entity.updateSprite(alpha);
+        Rectangle sprite = entity.getSprite();
+        if (area != null && !area.intersects(sprite.getX(), sprite.getY(), sprite.getWidth(), sprite.getHeight())) {
+            sprites.detach(sprite);
+            return;
+        }
+        entity.animeSprite();
+        sprites.attach(sprite);
+    }
+
+    /**
+     * Couche d'un niveau : ses noeuds sous leur propre groupe, pour rester sous les sprites quand ils sont
+     * détachés puis rattachés, et le suivi des noeuds attachés. Construite entièrement hors de la scène.
+     */
+    private static final class LevelGroup {
+        private final LevelBuffer buffer;
+        private final Group group = new Group();
+        private final NodeTracker nodes = new NodeTracker(group.getChildren());
+
+        private LevelGroup(LevelBuffer buffer) {
+            this.buffer = buffer;
+            for (Node node : buffer.nodes()) {
+                nodes.attach(node);
+            }
+            nodes.flush();
+        }
+    }
+}
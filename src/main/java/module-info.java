@@ -19,4 +19,5 @@ module com.bobble.spacebobble {
     exports com.bobble.spacebobble.core.entities.Server;
     exports com.bobble.spacebobble.network;
     exports com.bobble.spacebobble.network.Packet;
+    exports com.bobble.spacebobble.render;
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package com.bobble.spacebobble.core.entities;
+
+import com.bobble.spacebobble.config.GameConstants;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Intégration groupée avec l'API Vector : plusieurs entités sont traitées par instruction,
+ * les dernières entités (moins d'un vecteur) par la boucle scalaire.
+ * Cette classe n'est compilée qu'avec le profil Maven simd, et chargée par Integrator.create
+ * que si le module jdk.incubator.vector est présent.
+ */
+class VectorIntegrator implements Integrator {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public void integrate(int count, double[] dt, double[] x, double[] y, double[] vx, double[] vy,
+                          double[] fallLimit, double[] newX, double[] newY) {
+        int i = 0;
+        int bound = SPECIES.loopBound(count);
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector step = DoubleVector.fromArray(SPECIES, dt, i);
+            DoubleVector velocity = DoubleVector.fromArray(SPECIES, vy, i).add(step.mul(GameConstants.GRAVITY));
+            velocity.intoArray(vy, i);
+            DoubleVector.fromArray(SPECIES, x, i)
+                    .add(DoubleVector.fromArray(SPECIES, vx, i).mul(step))
+                    .intoArray(newX, i);
+            DoubleVector.fromArray(SPECIES, y, i)
+                    .add(velocity.mul(step).min(DoubleVector.fromArray(SPECIES, fallLimit, i)))
+                    .intoArray(newY, i);
+        }
+        for (; i < count; i++) {
+            double step = dt[i];
+            vy[i] += GameConstants.GRAVITY * step;
+            newX[i] = x[i] + vx[i] * step;
+            newY[i] = y[i] + Math.min(vy[i] * step, fallLimit[i]);
+        }
+    }
+}
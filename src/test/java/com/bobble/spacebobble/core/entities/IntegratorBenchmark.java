@@ -0,0 +1,102 @@
+package com.bobble.spacebobble.core.entities;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Compare la passe d'intégration scalaire et celle choisie par Integrator.create (SIMD si l'API Vector est chargée),
+ * vérifie qu'elles donnent des résultats identiques au bit près, puis mesure le temps médian d'une passe.
+ * <p>
+ * Lancement, après une compilation avec le profil simd :
+ * <pre>
+ * mvn -Psimd test-compile
+ * java --add-modules jdk.incubator.vector -cp target/classes:target/test-classes \
+ *     com.bobble.spacebobble.core.entities.IntegratorBenchmark
+ * </pre>
+ * Sans l'option --add-modules, les deux passes mesurées sont scalaires.
+ */
+public class IntegratorBenchmark {
+
+    private static final int[] SIZES = {64, 1024, 8192};
+    private static final int WARMUP = 20_000;
+    private static final int RUNS = 2_000;
+
+    public static void main(String[] args) {
+        Integrator scalar = new ScalarIntegrator();
+        Integrator selected = Integrator.create();
+        System.out.println("Intégrateur choisi : " + selected.getClass().getSimpleName());
+        for (int size : SIZES) {
+            Data reference = new Data(size, 42);
+            Data candidate = new Data(size, 42);
+            reference.run(scalar);
+            candidate.run(selected);
+            if (!reference.sameResult(candidate)) {
+                throw new IllegalStateException("Résultats différents pour " + size + " entités");
+            }
+            System.out.printf("%5d entités : scalaire %.2f us, %s %.2f us%n", size,
+                    median(scalar, size), selected.getClass().getSimpleName(), median(selected, size));
+        }
+    }
+
+    /**
+     * Temps médian d'une passe en microsecondes, après une phase de chauffe pour le compilateur JIT.
+     */
+    private static double median(Integrator integrator, int size) {
+        Data data = new Data(size, 7);
+        for (int i = 0; i < WARMUP; i++) {
+            data.run(integrator);
+        }
+        long[] times = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            data.run(integrator);
+            times[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(times);
+        return times[RUNS / 2] / 1000.0;
+    }
+
+    /**
+     * Tableaux d'entrée et de sortie d'une passe, remplis comme ceux de l'EntityStore.
+     */
+    private static final class Data {
+        private final int count;
+        private final double[] dt;
+        private final double[] x;
+        private final double[] y;
+        private final double[] vx;
+        private final double[] vy;
+        private final double[] fallLimit;
+        private final double[] newX;
+        private final double[] newY;
+
+        private Data(int count, long seed) {
+            Random random = new Random(seed);
+            this.count = count;
+            dt = new double[count];
+            x = new double[count];
+            y = new double[count];
+            vx = new double[count];
+            vy = new double[count];
+            fallLimit = new double[count];
+            newX = new double[count];
+            newY = new double[count];
+            for (int i = 0; i < count; i++) {
+                dt[i] = random.nextInt(4) == 0 ? 0 : 1;
+                x[i] = random.nextDouble() * 1280;
+                y[i] = random.nextDouble() * 720;
+                vx[i] = random.nextBoolean() ? 2 : -2;
+                vy[i] = random.nextDouble() * 10 - 5;
+                fallLimit[i] = random.nextBoolean() ? Double.POSITIVE_INFINITY : 25;
+            }
+        }
+
+        private void run(Integrator integrator) {
+            integrator.integrate(count, dt, x, y, vx, vy, fallLimit, newX, newY);
+        }
+
+        private boolean sameResult(Data other) {
+            return Arrays.equals(vy, other.vy) && Arrays.equals(newX, other.newX) && Arrays.equals(newY, other.newY);
+        }
+    }
+}